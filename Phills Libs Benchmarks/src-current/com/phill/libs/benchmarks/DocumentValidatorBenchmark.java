@@ -0,0 +1,85 @@
+package com.phill.libs.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.phill.libs.br.DocumentValidator;
+import com.phill.libs.br.PIIScanner;
+import com.phill.libs.br.ValidationResult;
+
+/** Benchmarks the validation of {@link DocumentValidator} and the redaction of {@link PIIScanner}.<br>
+ *  Note: these APIs do not exist in older releases, so this class is left out of the legacy build.
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026
+ *  @see DocumentBenchmark */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class DocumentValidatorBenchmark {
+	
+	// Must be a power of two
+	@Param({"65536"})
+	private int size;
+	
+	private String[] cpfs, cnpjs, mixedCnpjs, pis, phones;
+	private String notes;
+	private int index;
+	
+	@Setup
+	public void setup() {
+		
+		this.cpfs       = DataSets.cpfs(size);
+		this.cnpjs      = DataSets.cnpjs(size);
+		this.mixedCnpjs = DataSets.cnpjs(size, 0.5);
+		this.pis        = DataSets.pis(size);
+		this.phones     = DataSets.phones(size);
+		this.notes      = notes();
+	}
+	
+	/** @return About 100 KB of log lines interleaved with documents and phone numbers, as seen by the PII scanner. */
+	private String notes() {
+		
+		final String[] lines = DataSets.log(1000).split("\n");
+		final StringBuilder notes = new StringBuilder();
+		
+		for (int i=0; i<lines.length; i++)
+			notes.append(lines[i]).append(" | cliente ").append(cpfs[i]).append(", contato ").append(phones[i]).append('\n');
+		
+		return notes.toString();
+	}
+	
+	/** @return The next position of the data sets (cycled, so JIT cannot constant-fold the inputs). */
+	private int next() {
+		return index = (index + 1) & (size - 1);
+	}
+	
+	@Benchmark
+	public ValidationResult cpfValidate() {
+		return DocumentValidator.cpf(cpfs[next()]);
+	}
+	
+	@Benchmark
+	public ValidationResult cnpjValidate() {
+		return DocumentValidator.cnpj(cnpjs[next()]);
+	}
+	
+	@Benchmark
+	public ValidationResult cnpjValidateMixed() {
+		return DocumentValidator.cnpj(mixedCnpjs[next()]);
+	}
+	
+	@Benchmark
+	public ValidationResult pisValidate() {
+		return DocumentValidator.pis(pis[next()]);
+	}
+	
+	@Benchmark
+	public String piiRedact() {
+		return PIIScanner.PADRAO.redige(notes);
+	}
+
+}
@@ -0,0 +1,71 @@
+package com.phill.libs.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.phill.libs.br.UF;
+import com.phill.libs.time.PhillsBusinessCalendar;
+import com.phill.libs.time.PhillsDateColumn;
+import com.phill.libs.time.PhillsDateFormatter;
+import com.phill.libs.time.PhillsDateParser;
+import com.phill.libs.time.PhillsLocalDateParser;
+
+/** Benchmarks the format detection of {@link PhillsDateParser}, the date parsing of {@link PhillsLocalDateParser} and
+ *  {@link PhillsDateColumn}, with inputs spread over all the known formats, and the business-day arithmetic of {@link PhillsBusinessCalendar}.<br>
+ *  Note: these APIs do not exist in older releases, so this class is left out of the legacy build.
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026
+ *  @see TimeBenchmark */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class TimeApiBenchmark {
+	
+	// Must be a power of two
+	@Param({"65536"})
+	private int size;
+	
+	private String[] dates;
+	private int index;
+	
+	@Setup
+	public void setup() {
+		this.dates = DataSets.dates(size);
+	}
+	
+	/** @return The next position of the data sets (cycled, so JIT cannot constant-fold the inputs). */
+	private int next() {
+		return index = (index + 1) & (size - 1);
+	}
+	
+	@Benchmark
+	public PhillsDateFormatter detectFormat() {
+		return PhillsDateParser.detectFormat(dates[next()]);
+	}
+	
+	@Benchmark
+	public LocalDateTime createLocalDateTime() {
+		return PhillsLocalDateParser.createDateTime(dates[next()]);
+	}
+	
+	/** Parses the whole (mixed formats) data set at once, so the score is per column, not per date. */
+	@Benchmark
+	public long[] columnToMillis() {
+		return PhillsDateColumn.toMillis(dates, null);
+	}
+	
+	/** Adds up to 255 business days to days spread over about 180 years. */
+	@Benchmark
+	public long addBusinessDays() {
+		
+		final int i = next();
+		
+		return PhillsBusinessCalendar.get(UF.SP).addBusinessDays(i, i & 0xFF);
+	}
+
+}
@@ -0,0 +1,150 @@
+package com.phill.libs.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Compares two CSV reports generated by {@link BenchmarkRunner} (a baseline and a candidate),
+ *  printing the score ratio of every benchmark and flagging regressions.
+ *  Time scores (lower is better) and the normalized allocation rate (<code>gc.alloc.rate.norm</code>, bytes/op)
+ *  are both compared, all other secondary metrics are ignored.<br>
+ *  Usage: <code>BaselineComparator baseline.csv candidate.csv [tolerance %]</code>
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026 */
+public class BaselineComparator {
+	
+	// Default tolerance (in %) before a difference is considered a regression
+	private static final double DEFAULT_TOLERANCE = 5.0;
+	
+	// JMH CSV columns
+	private static final int BENCHMARK = 0, SCORE = 4, ERROR = 5, UNIT = 6, PARAMS = 7;
+	
+	public static void main(String[] args) throws IOException {
+		
+		if (args.length < 2) {
+			System.err.println("Usage: BaselineComparator <baseline.csv> <candidate.csv> [tolerance %]");
+			System.exit(1);
+		}
+		
+		final double tolerance = (args.length > 2) ? Double.parseDouble(args[2]) : DEFAULT_TOLERANCE;
+		
+		final Map<String,String[]> baseline  = read(args[0]);
+		final Map<String,String[]> candidate = read(args[1]);
+		
+		int regressions = 0;
+		
+		System.out.printf("%-70s %14s %14s %8s  %s%n", "Benchmark", "Baseline", "Candidate", "Ratio", "Unit");
+		
+		for (Map.Entry<String,String[]> entry: candidate.entrySet()) {
+			
+			final String[] before = baseline.get(entry.getKey());
+			final String[] after  = entry.getValue();
+			
+			if (before == null) {
+				System.out.printf("%-70s %14s %14.3f %8s  %s (new)%n", entry.getKey(), "-", score(after), "-", after[UNIT]);
+				continue;
+			}
+			
+			final double ratio = score(after) / score(before);
+			
+			// Only differences larger than the measurement error and the tolerance count as regressions
+			final boolean regression = (ratio > 1 + tolerance / 100)
+									&& (score(after) - score(before) > error(after) + error(before));
+			
+			if (regression)
+				regressions++;
+			
+			System.out.printf("%-70s %14.3f %14.3f %8.3f  %s%s%n", entry.getKey(), score(before), score(after), ratio,
+							  after[UNIT], regression ? "  <-- REGRESSION" : "");
+		}
+		
+		System.out.printf("%nBaselineComparator: %d regression(s) found (tolerance: %.1f%%)%n", regressions, tolerance);
+		
+		if (regressions > 0)
+			System.exit(2);
+	}
+	
+	/** Reads a JMH CSV report, keeping only the primary scores and the normalized allocation rates.
+	 *  @return A map of benchmark names (with parameters) to their CSV columns, in the report order. */
+	private static Map<String,String[]> read(final String path) throws IOException {
+		
+		final List<String> lines = Files.readAllLines(Paths.get(path), StandardCharsets.UTF_8);
+		final Map<String,String[]> rows = new LinkedHashMap<String,String[]>();
+		
+		for (String line: lines.subList(1, lines.size())) {
+			
+			final String[] columns = split(line);
+			final String name = columns[BENCHMARK];
+			
+			// Secondary metrics are named 'benchmark:metric'
+			if (name.contains(":") && !name.endsWith(":gc.alloc.rate.norm"))
+				continue;
+			
+			final StringBuilder key = new StringBuilder(name);
+			
+			for (int i=PARAMS; i<columns.length; i++)
+				if (!columns[i].isEmpty())
+					key.append(i == PARAMS ? " (" : ", ").append(columns[i]);
+			
+			if (columns.length > PARAMS)
+				key.append(')');
+			
+			rows.put(key.toString(), columns);
+		}
+		
+		return rows;
+	}
+	
+	/** Splits a CSV line (JMH quotes every text column and never quotes numbers). */
+	private static String[] split(final String line) {
+		
+		final List<String> columns = new ArrayList<String>();
+		final StringBuilder column = new StringBuilder();
+		boolean quoted = false;
+		
+		for (int i=0; i<line.length(); i++) {
+			
+			final char c = line.charAt(i);
+			
+			if (c == '"')
+				quoted = !quoted;
+			else if ((c == ',') && !quoted) {
+				columns.add(column.toString());
+				column.setLength(0);
+			}
+			else
+				column.append(c);
+		}
+		
+		columns.add(column.toString());
+		
+		return columns.toArray(new String[0]);
+	}
+	
+	/** @return The score column of a report row. */
+	private static double score(final String[] columns) {
+		return parse(columns[SCORE]);
+	}
+	
+	/** @return The score error column of a report row (zero when not available). */
+	private static double error(final String[] columns) {
+		final double error = parse(columns[ERROR]);
+		return Double.isNaN(error) ? 0 : error;
+	}
+	
+	/** Parses a JMH number, which may use either '.' or ',' as decimal separator depending on the locale. */
+	private static double parse(final String number) {
+		try {
+			return Double.parseDouble(number.replace(',', '.'));
+		}
+		catch (NumberFormatException exception) {
+			return Double.NaN;
+		}
+	}
+
+}
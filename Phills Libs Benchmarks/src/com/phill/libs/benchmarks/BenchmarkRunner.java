@@ -0,0 +1,42 @@
+package com.phill.libs.benchmarks;
+
+import java.io.File;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/** Runs the benchmark suite with the GC profiler and saves the results as a CSV report,
+ *  to be used as a baseline by {@link BaselineComparator}.<br>
+ *  Usage: <code>java -jar benchmarks.jar [label] [JMH include regex]</code>
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026 */
+public class BenchmarkRunner {
+	
+	// Directory where the reports are saved
+	private static final String RESULTS_DIR = "results";
+	
+	public static void main(String[] args) throws RunnerException {
+		
+		final String label   = (args.length > 0) ? args[0] : "current";
+		final String include = (args.length > 1) ? args[1] : BenchmarkRunner.class.getPackage().getName() + ".*Benchmark.*";
+		
+		final File report = new File(RESULTS_DIR, label + ".csv");
+		report.getParentFile().mkdirs();
+		
+		final Options options = new OptionsBuilder()
+				.include(include)
+				.addProfiler(GCProfiler.class)
+				.resultFormat(ResultFormatType.CSV)
+				.result(report.getPath())
+				.build();
+		
+		new Runner(options).run();
+		
+		System.out.println("BenchmarkRunner: results saved to " + report.getAbsolutePath());
+	}
+
+}
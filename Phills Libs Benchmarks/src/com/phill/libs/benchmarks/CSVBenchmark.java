@@ -0,0 +1,42 @@
+package com.phill.libs.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.phill.libs.files.CSVUtils;
+
+/** Benchmarks the CSV delimiter inference of {@link CSVUtils}.
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026 */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class CSVBenchmark {
+	
+	// Must be a power of two
+	@Param({"4096"})
+	private int size;
+	
+	private String[] headers;
+	private int index;
+	
+	@Setup
+	public void setup() {
+		this.headers = DataSets.csvHeaders(size);
+	}
+	
+	/** @return The next position of the data sets (cycled, so JIT cannot constant-fold the inputs). */
+	private int next() {
+		return index = (index + 1) & (size - 1);
+	}
+	
+	@Benchmark
+	public String getCSVDelimiter() {
+		return CSVUtils.getCSVDelimiter(headers[next()]);
+	}
+
+}
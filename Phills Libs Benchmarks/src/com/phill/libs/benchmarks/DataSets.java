@@ -0,0 +1,304 @@
+package com.phill.libs.benchmarks;
+
+import java.util.Map;
+import java.util.Random;
+
+/** Generates the realistic, deterministic data sets used by the benchmarks.
+ *  All generators are seeded, so the same size always produces the same data.
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026 */
+public class DataSets {
+	
+	// Fixed seed, so reports from different runs (and releases) use the same inputs
+	private static final long SEED = 0x5EEDL;
+	
+	private static final String[] FIRST_NAMES = {"José", "João", "Antônio", "Francisco", "Luíz", "Maria", "Ana", "Francisca", "Antônia", "Adriana",
+												 "Márcia", "Conceição", "Sebastião", "Raimundo", "Cláudia", "Fábio", "Lúcia", "Inês", "Tânia", "Sérgio"};
+	private static final String[] LAST_NAMES  = {"Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira", "Lima", "Gomes",
+												 "Araújo", "Gonçalves", "Simões", "Magalhães", "Conceição", "Brandão", "Falcão", "Guimarães", "Assunção", "Ribeiro"};
+	private static final String[] PARTICLES   = {"", "", "", "da ", "de ", "do ", "dos ", "das "};
+	
+	/** Private constructor, this is a static utility class. */
+	private DataSets() { }
+	
+	/** @return A new seeded random generator. */
+	private static Random random() {
+		return new Random(SEED);
+	}
+	
+	/** Generates CPFs, half with mask and half without it. Most are valid, some have a wrong check digit.
+	 *  @param size - number of documents
+	 *  @return An array of CPFs. */
+	public static String[] cpfs(final int size) {
+		
+		final Random random = random();
+		final String[] cpfs = new String[size];
+		
+		for (int i=0; i<size; i++) {
+			
+			final int[] digits = new int[11];
+			
+			for (int j=0; j<9; j++)
+				digits[j] = random.nextInt(10);
+			
+			digits[ 9] = mod11(digits, 9, 10);
+			digits[10] = mod11(digits, 10, 11);
+			
+			// 10% invalid
+			if (random.nextInt(10) == 0)
+				digits[10] = (digits[10] + 1) % 10;
+			
+			final String cpf = join(digits);
+			
+			cpfs[i] = random.nextBoolean() ? cpf : String.format("%s.%s.%s-%s", cpf.substring(0,3), cpf.substring(3,6), cpf.substring(6,9), cpf.substring(9));
+		}
+		
+		return cpfs;
+	}
+	
+	/** Generates numeric CNPJs, half with mask and half without it. Most are valid, some have a wrong check digit.
+	 *  @param size - number of documents
+	 *  @return An array of CNPJs. */
+	public static String[] cnpjs(final int size) {
+		return cnpjs(size, 0);
+	}
+	
+	/** Generates CNPJs, half with mask and half without it. Most are valid, some have a wrong check digit.
+	 *  @param size - number of documents
+	 *  @param alphanumericRatio - fraction (0 to 1) of alphanumeric CNPJs, with letters in the first 12 positions
+	 *  @return An array of CNPJs. */
+	public static String[] cnpjs(final int size, final double alphanumericRatio) {
+		
+		final Random random = random();
+		final String[] cnpjs = new String[size];
+		final int[] weights = {6,5,4,3,2,9,8,7,6,5,4,3,2};
+		
+		for (int i=0; i<size; i++) {
+			
+			final char[] chars = new char[14];
+			final boolean alphanumeric = random.nextDouble() < alphanumericRatio;
+			
+			for (int j=0; j<8; j++)
+				chars[j] = (alphanumeric && random.nextBoolean()) ? (char) ('A' + random.nextInt(26)) : (char) ('0' + random.nextInt(10));
+			
+			chars[8] = '0'; chars[9] = '0'; chars[10] = '0'; chars[11] = (char) ('1' + random.nextInt(3));
+			
+			for (int dv=12; dv<14; dv++) {
+				
+				int sum = 0;
+				
+				// Letters are worth their ASCII code minus 48
+				for (int j=0; j<dv; j++)
+					sum += (chars[j] - '0') * weights[j + 13 - dv];
+				
+				chars[dv] = (char) ('0' + ((sum % 11 < 2) ? 0 : 11 - (sum % 11)));
+			}
+			
+			if (random.nextInt(10) == 0)
+				chars[13] = (char) ('0' + (chars[13] - '0' + 1) % 10);
+			
+			final String cnpj = new String(chars);
+			
+			cnpjs[i] = random.nextBoolean() ? cnpj : String.format("%s.%s.%s/%s-%s", cnpj.substring(0,2), cnpj.substring(2,5), cnpj.substring(5,8), cnpj.substring(8,12), cnpj.substring(12));
+		}
+		
+		return cnpjs;
+	}
+	
+	/** Generates PIS/PASEP numbers, half with mask and half without it.
+	 *  @param size - number of documents
+	 *  @return An array of PIS numbers. */
+	public static String[] pis(final int size) {
+		
+		final Random random = random();
+		final String[] pis = new String[size];
+		final int[] weights = {3,2,9,8,7,6,5,4,3,2};
+		
+		for (int i=0; i<size; i++) {
+			
+			final int[] digits = new int[11];
+			int sum = 0;
+			
+			for (int j=0; j<10; j++) {
+				digits[j] = random.nextInt(10);
+				sum += digits[j] * weights[j];
+			}
+			
+			digits[10] = (sum % 11 < 2) ? 0 : 11 - (sum % 11);
+			
+			final String number = join(digits);
+			
+			pis[i] = random.nextBoolean() ? number : String.format("%s.%s.%s-%s", number.substring(0,3), number.substring(3,8), number.substring(8,10), number.substring(10));
+		}
+		
+		return pis;
+	}
+	
+	/** Generates phone numbers in the many shapes found in contact lists: with and without area code,
+	 *  with and without the ninth digit, with masks, spaces and some garbage.
+	 *  @param size - number of phone numbers
+	 *  @return An array of phone numbers. */
+	public static String[] phones(final int size) {
+		
+		final Random random = random();
+		final String[] phones = new String[size];
+		
+		for (int i=0; i<size; i++) {
+			
+			final int ddd = 11 + random.nextInt(88);
+			final int prefix = 2 + random.nextInt(8);
+			final String line = String.format("%03d-%04d", random.nextInt(1000), random.nextInt(10000));
+			
+			switch (random.nextInt(6)) {
+				case 0:  phones[i] = String.format("(%d) 9%d%s", ddd, prefix, line); break;
+				case 1:  phones[i] = String.format("(%d) %d%s", ddd, prefix, line); break;
+				case 2:  phones[i] = String.format("%d%s", prefix, line); break;
+				case 3:  phones[i] = String.format("9%d%s", prefix, line).replace("-", ""); break;
+				case 4:  phones[i] = String.format("+55 %d 9%d%s", ddd, prefix, line); break;
+				default: phones[i] = String.format("%03d-%04d", random.nextInt(1000), random.nextInt(10000)); break;
+			}
+		}
+		
+		return phones;
+	}
+	
+	/** Generates full names with accents, particles and random casing.
+	 *  @param size - number of names
+	 *  @return An array of names. */
+	public static String[] names(final int size) {
+		
+		final Random random = random();
+		final String[] names = new String[size];
+		
+		for (int i=0; i<size; i++) {
+			
+			String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " +
+						  PARTICLES[random.nextInt(PARTICLES.length)] + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " +
+						  LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+			
+			names[i] = random.nextBoolean() ? name.toUpperCase() : name;
+		}
+		
+		return names;
+	}
+	
+	/** Generates dates in all the formats recognized by <code>PhillsDateParser.createDate(String)</code>.
+	 *  @param size - number of dates
+	 *  @return An array of string dates. */
+	public static String[] dates(final int size) {
+		
+		final Random random = random();
+		final String[] dates = new String[size];
+		
+		for (int i=0; i<size; i++) {
+			
+			final int year = 1950 + random.nextInt(80), month = 1 + random.nextInt(12), day = 1 + random.nextInt(28);
+			final int hour = random.nextInt(24), minute = random.nextInt(60), second = random.nextInt(60);
+			
+			switch (random.nextInt(7)) {
+				case 0:  dates[i] = String.format("%04d-%02d-%02d %02d:%02d:%02d.%d", year, month, day, hour, minute, second, random.nextInt(10)); break;
+				case 1:  dates[i] = String.format("%04d-%02d-%02d %02d:%02d:%02d", year, month, day, hour, minute, second); break;
+				case 2:  dates[i] = String.format("%04d-%02d-%02d", year, month, day); break;
+				case 3:  dates[i] = String.format("%02d/%02d/%04d %02d:%02d:%02d", day, month, year, hour, minute, second); break;
+				case 4:  dates[i] = String.format("%02d/%02d/%04d", day, month, year); break;
+				case 5:  dates[i] = String.format("%02d%02d%04d", day, month, year); break;
+				default: dates[i] = String.format("%04d%02d%02d//", year, month, day); break;
+			}
+		}
+		
+		return dates;
+	}
+	
+	/** Generates a plain text log with stack traces, tabs, markup characters and URLs.
+	 *  @param lines - number of lines
+	 *  @return A plain text log. */
+	public static String log(final int lines) {
+		
+		final Random random = random();
+		final StringBuilder log = new StringBuilder(lines * 80);
+		
+		for (int i=0; i<lines; i++) {
+			
+			switch (random.nextInt(4)) {
+				case 0:  log.append("java.lang.IllegalStateException: value <").append(random.nextInt()).append("> & \"quoted\" text\n"); break;
+				case 1:  log.append("\tat com.phill.libs.Example.method(Example.java:").append(random.nextInt(500)).append(")\n"); break;
+				case 2:  log.append("See https://github.com/icomp-felipe/phills-libs/issues/").append(random.nextInt(100)).append(" for  details\n"); break;
+				default: log.append("INFO  request ").append(random.nextLong()).append(" served by www.example.com.br in ").append(random.nextInt(1000)).append(" ms\n"); break;
+			}
+		}
+		
+		return log.toString();
+	}
+	
+	/** Generates a report template with the given number of placeholders, and its parameters.
+	 *  @param placeholders - number of distinct placeholders
+	 *  @param parameters - map filled with the parameters of the template
+	 *  @return A report template of about 4 KB. */
+	public static String template(final int placeholders, final Map<String,Object> parameters) {
+		
+		final Random random = random();
+		final StringBuilder template = new StringBuilder(4096);
+		
+		for (int i=0; i<placeholders; i++) {
+			
+			template.append("Field number ").append(i).append(" of this report is ").append("$FIELD_").append(i).append(", and it was filled at runtime.\n");
+			parameters.put("$FIELD_" + i, "value-" + random.nextInt(100000));
+		}
+		
+		return template.toString();
+	}
+	
+	/** Generates the first lines of CSV files, with different delimiters and quoted fields.
+	 *  @param size - number of lines
+	 *  @return An array of CSV header lines. */
+	public static String[] csvHeaders(final int size) {
+		
+		final Random random = random();
+		final String[] delimiters = {",", ";", "\t"};
+		final String[] headers = new String[size];
+		
+		for (int i=0; i<size; i++) {
+			
+			final String delimiter = delimiters[random.nextInt(delimiters.length)];
+			final StringBuilder line = new StringBuilder();
+			final int columns = 5 + random.nextInt(30);
+			
+			for (int j=0; j<columns; j++) {
+				
+				if (j > 0)
+					line.append(delimiter);
+				
+				line.append(random.nextBoolean() ? "\"column " + j + "\"" : "COLUMN_" + j);
+			}
+			
+			headers[i] = line.toString();
+		}
+		
+		return headers;
+	}
+	
+	/** Computes a CPF check digit over the first 'length' digits with weights starting at 'firstWeight'. */
+	private static int mod11(final int[] digits, final int length, final int firstWeight) {
+		
+		int sum = 0;
+		
+		for (int i=0; i<length; i++)
+			sum += digits[i] * (firstWeight - i);
+		
+		final int rest = 11 - (sum % 11);
+		
+		return (rest >= 10) ? 0 : rest;
+	}
+	
+	/** Joins digits into a string. */
+	private static String join(final int[] digits) {
+		
+		final StringBuilder sb = new StringBuilder(digits.length);
+		
+		for (int digit: digits)
+			sb.append(digit);
+		
+		return sb.toString();
+	}
+
+}
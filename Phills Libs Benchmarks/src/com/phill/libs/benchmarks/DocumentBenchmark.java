@@ -0,0 +1,71 @@
+package com.phill.libs.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.phill.libs.br.CNPJParser;
+import com.phill.libs.br.CPFParser;
+import com.phill.libs.br.PISParser;
+import com.phill.libs.br.PhoneNumberUtils;
+
+/** Benchmarks the Brazilian document parsers and the phone number normalization.<br>
+ *  Note: only APIs available in older releases are used here, so this class is also part of the legacy build.
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026
+ *  @see DocumentValidatorBenchmark */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class DocumentBenchmark {
+	
+	// Must be a power of two
+	@Param({"65536"})
+	private int size;
+	
+	private String[] cpfs, cnpjs, pis, phones;
+	private int index;
+	
+	@Setup
+	public void setup() {
+		
+		this.cpfs   = DataSets.cpfs(size);
+		this.cnpjs  = DataSets.cnpjs(size);
+		this.pis    = DataSets.pis(size);
+		this.phones = DataSets.phones(size);
+	}
+	
+	/** @return The next position of the data sets (cycled, so JIT cannot constant-fold the inputs). */
+	private int next() {
+		return index = (index + 1) & (size - 1);
+	}
+	
+	@Benchmark
+	public boolean cpfParse() {
+		return CPFParser.parse(cpfs[next()]);
+	}
+	
+	@Benchmark
+	public boolean cnpjParse() {
+		return CNPJParser.parse(cnpjs[next()]);
+	}
+	
+	@Benchmark
+	public boolean pisParse() {
+		return PISParser.parse(pis[next()]);
+	}
+	
+	@Benchmark
+	public String cnpjFormat() {
+		return CNPJParser.format(cnpjs[next()]);
+	}
+	
+	@Benchmark
+	public String phoneExtractNumber() {
+		return PhoneNumberUtils.extractNumber(phones[next()]);
+	}
+
+}
@@ -0,0 +1,85 @@
+package com.phill.libs.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.phill.libs.StringUtils;
+
+/** Benchmarks the {@link StringUtils} hot paths: extract*, toHTML, populate and wipeSpecialCharacters.
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026 */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class StringUtilsBenchmark {
+	
+	@Param({"65536"})
+	private int size;
+	
+	// Number of log lines converted by 'toHTML'
+	@Param({"1000"})
+	private int logLines;
+	
+	// Number of placeholders of the 'populate' template
+	@Param({"60"})
+	private int placeholders;
+	
+	private String[] documents, names;
+	private String log, template;
+	private Map<String,Object> parameters;
+	private int index;
+	
+	@Setup
+	public void setup() {
+		
+		this.documents  = DataSets.cpfs(size);
+		this.names      = DataSets.names(size);
+		this.log        = DataSets.log(logLines);
+		this.parameters = new HashMap<String,Object>();
+		this.template   = DataSets.template(placeholders, parameters);
+	}
+	
+	/** @return The next position of the data sets (cycled, so JIT cannot constant-fold the inputs). */
+	private int next() {
+		return index = (index + 1) & (size - 1);
+	}
+	
+	@Benchmark
+	public String extractNumbers() {
+		return StringUtils.extractNumbers(documents[next()]);
+	}
+	
+	@Benchmark
+	public String extractAlphabet() {
+		return StringUtils.extractAlphabet(names[next()], " ", true);
+	}
+	
+	@Benchmark
+	public String extractAlphaNumeric() {
+		return StringUtils.extractAlphaNumeric(names[next()], "", false);
+	}
+	
+	@Benchmark
+	public String wipeSpecialCharacters() {
+		return StringUtils.wipeSpecialCharacters(names[next()]);
+	}
+	
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public String toHTML() {
+		return StringUtils.toHTML(log);
+	}
+	
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public String populate() {
+		return StringUtils.populate(template, parameters);
+	}
+
+}
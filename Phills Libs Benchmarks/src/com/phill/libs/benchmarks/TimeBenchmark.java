@@ -0,0 +1,45 @@
+package com.phill.libs.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.DateTime;
+import org.openjdk.jmh.annotations.*;
+
+import com.phill.libs.time.PhillsDateParser;
+
+/** Benchmarks the date parsing of {@link PhillsDateParser}, with inputs spread over all the known formats.<br>
+ *  Note: only APIs available in older releases are used here, so this class is also part of the legacy build.
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026
+ *  @see TimeApiBenchmark */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class TimeBenchmark {
+	
+	// Must be a power of two
+	@Param({"65536"})
+	private int size;
+	
+	private String[] dates;
+	private int index;
+	
+	@Setup
+	public void setup() {
+		this.dates = DataSets.dates(size);
+	}
+	
+	/** @return The next position of the data sets (cycled, so JIT cannot constant-fold the inputs). */
+	private int next() {
+		return index = (index + 1) & (size - 1);
+	}
+	
+	@Benchmark
+	public DateTime createDate() {
+		return PhillsDateParser.createDate(dates[next()]);
+	}
+
+}
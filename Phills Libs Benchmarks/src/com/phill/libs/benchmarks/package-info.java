@@ -0,0 +1,14 @@
+/** This package contains the JMH benchmarks of Phills Libs.<br>
+ *  Every benchmark reads its inputs from {@link com.phill.libs.benchmarks.DataSets}, which generates realistic and
+ *  deterministic (seeded) data, so results are comparable between runs and releases.<br>
+ *  Quick guide:<br>
+ *  1. <code>mvn package</code>. To benchmark an older release, install it and add <code>-Dlegacy</code> (and
+ *  <code>-Dphill.libs.version=X.Y.Z</code> if its version differs): only the benchmarks under <code>src</code>, which use
+ *  just the APIs available in 1.5.0, are built. The ones under <code>src-current</code> measure the newer APIs;<br>
+ *  2. <code>java -jar target/benchmarks.jar [label] [JMH include regex]</code> runs the suite with the GC profiler
+ *  and writes a CSV report to <code>results/&lt;label&gt;.csv</code>;<br>
+ *  3. <code>java -cp target/benchmarks.jar com.phill.libs.benchmarks.BaselineComparator results/base.csv results/new.csv</code>
+ *  compares two reports, including allocation per operation.
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026 */
+package com.phill.libs.benchmarks;
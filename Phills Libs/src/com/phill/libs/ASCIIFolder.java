@@ -0,0 +1,236 @@
+package com.phill.libs;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/** Removes accents and other diacritics from strings using a precomputed folding table.<br>
+ *  The table covers the Latin-1 Supplement, Latin Extended-A/B and Latin Extended Additional blocks and is built from
+ *  {@link Normalizer} itself, so the results are the same of a NFD normalization followed by the removal of all non-ASCII characters.
+ *  Characters outside these blocks are still handled through {@link Normalizer}, one at a time.
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026
+ *  @see StringUtils#wipeSpecialCharacters(String) */
+public final class ASCIIFolder {
+	
+	// Folding table ranges
+	private static final char LATIN_START = '\u0080', LATIN_END = '\u024F';
+	private static final char LATIN_ADDITIONAL_START = '\u1E00', LATIN_ADDITIONAL_END = '\u1EFF';
+	
+	// Each slot holds the ASCII character its index folds to, or '\0' when the character is removed
+	private static final char[] LATIN_TABLE = buildTable(LATIN_START, LATIN_END);
+	private static final char[] LATIN_ADDITIONAL_TABLE = buildTable(LATIN_ADDITIONAL_START, LATIN_ADDITIONAL_END);
+	
+	// Strings per fork/join task when folding in bulk
+	private static final int BULK_THRESHOLD = 2048;
+	
+	/** Private constructor, this is a static utility class. */
+	private ASCIIFolder() { }
+	
+	/** Turns the special characters in the given string to normal ones.
+	 *  Basically removing accents from vowels and the letter 'ç' -> 'c'.
+	 *  Pure ASCII strings are returned as they are, without any copy.
+	 *  @param string - String
+	 *  @return A new string without special characters, or 'null' if <code>string</code> is null. */
+	public static String fold(final String string) {
+		
+		if (string == null)
+			return null;
+		
+		final int length = string.length();
+		int i = 0;
+		
+		// Fast path: skipping the leading ASCII characters
+		while ((i < length) && (string.charAt(i) < 0x80))
+			i++;
+		
+		if (i == length)
+			return string;
+		
+		final char[] buffer = new char[length];
+		string.getChars(0, i, buffer, 0);
+		
+		return new String(buffer, 0, fold(string, i, length, buffer, i));
+	}
+	
+	/** Appends the folded version of <code>string</code> to the given <code>sink</code>.
+	 *  @param string - character sequence
+	 *  @param sink - output buffer, it may be reused across calls
+	 *  @return The given <code>sink</code>. */
+	public static StringBuilder fold(final CharSequence string, final StringBuilder sink) {
+		
+		for (int i=0, length = string.length(); i<length; i++) {
+			
+			final char c = string.charAt(i);
+			
+			if (c < 0x80)
+				sink.append(c);
+			
+			else if (Character.isHighSurrogate(c) && (i+1 < length) && Character.isLowSurrogate(string.charAt(i+1))) {
+				appendASCII(Normalizer.normalize(string.subSequence(i, i+2), Normalizer.Form.NFD), sink);
+				i++;
+			}
+			
+			else {
+				
+				final char folded = fold(c);
+				
+				if (folded != 0)
+					sink.append(folded);
+			}
+		}
+		
+		return sink;
+	}
+	
+	/** Folds a single character.
+	 *  @param c - character
+	 *  @return The ASCII character <code>c</code> folds to, or '\0' if it is removed by folding. */
+	public static char fold(final char c) {
+		
+		if (c < 0x80)
+			return c;
+		
+		if (c <= LATIN_END)
+			return LATIN_TABLE[c - LATIN_START];
+		
+		if ((c >= LATIN_ADDITIONAL_START) && (c <= LATIN_ADDITIONAL_END))
+			return LATIN_ADDITIONAL_TABLE[c - LATIN_ADDITIONAL_START];
+		
+		return foldSlow(c);
+	}
+	
+	/** Folds all the given <code>strings</code>, in parallel when the array is large enough.
+	 *  @param strings - array of strings (may contain nulls)
+	 *  @return A new array with the folded strings, in the same order. */
+	public static String[] fold(final String[] strings) {
+		
+		final String[] folded = new String[strings.length];
+		
+		if (strings.length <= BULK_THRESHOLD)
+			new FoldTask(strings, folded, 0, strings.length).compute();
+		else
+			ForkJoinPool.commonPool().invoke(new FoldTask(strings, folded, 0, strings.length));
+		
+		return folded;
+	}
+	
+	/** Folds all the given <code>strings</code>, in parallel when the list is large enough.
+	 *  @param strings - list of strings (may contain nulls)
+	 *  @return A new list with the folded strings, in the same order. */
+	public static List<String> fold(final List<String> strings) {
+		return new ArrayList<String>(Arrays.asList(fold(strings.toArray(new String[0]))));
+	}
+	
+	/**************************** Internal Methods Section ***************************************/
+	
+	/** Folds string[start,end) into buffer starting at 'offset'.
+	 *  @return The final length of the data written into 'buffer'. */
+	private static int fold(final String string, final int start, final int end, final char[] buffer, int offset) {
+		
+		for (int i=start; i<end; i++) {
+			
+			final char c = string.charAt(i);
+			
+			if (c < 0x80)
+				buffer[offset++] = c;
+			
+			else if (Character.isHighSurrogate(c) && (i+1 < end) && Character.isLowSurrogate(string.charAt(i+1))) {
+				
+				final String normalized = Normalizer.normalize(string.substring(i, i+2), Normalizer.Form.NFD);
+				
+				// A surrogate pair takes two slots, so there is always room for its folded characters
+				for (int j=0, written=0; (j < normalized.length()) && (written < 2); j++)
+					if (normalized.charAt(j) < 0x80) {
+						buffer[offset++] = normalized.charAt(j);
+						written++;
+					}
+				
+				i++;
+			}
+			
+			else {
+				
+				final char folded = fold(c);
+				
+				if (folded != 0)
+					buffer[offset++] = folded;
+			}
+		}
+		
+		return offset;
+	}
+	
+	/** Builds a folding table for the characters in the range [first,last]. */
+	private static char[] buildTable(final char first, final char last) {
+		
+		final char[] table = new char[last - first + 1];
+		
+		for (char c = first; c <= last; c++)
+			table[c - first] = foldSlow(c);
+		
+		return table;
+	}
+	
+	/** Folds a single character using the NFD normalization. In the BMP, every
+	 *  character decomposes into at most one ASCII character plus combining marks. */
+	private static char foldSlow(final char c) {
+		
+		if (Character.isSurrogate(c))
+			return 0;
+		
+		final String normalized = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+		
+		for (int i=0; i<normalized.length(); i++)
+			if (normalized.charAt(i) < 0x80)
+				return normalized.charAt(i);
+		
+		return 0;
+	}
+	
+	/** Appends only the ASCII characters of 'string' to 'sink'. */
+	private static void appendASCII(final String string, final StringBuilder sink) {
+		
+		for (int i=0; i<string.length(); i++)
+			if (string.charAt(i) < 0x80)
+				sink.append(string.charAt(i));
+	
+	}
+	
+	/** Fork/join task used to fold large arrays. */
+	private static class FoldTask extends RecursiveAction {
+		
+		// Serial
+		private static final long serialVersionUID = 1L;
+		
+		private final String[] source, target;
+		private final int start, end;
+		
+		private FoldTask(final String[] source, final String[] target, final int start, final int end) {
+			this.source = source;	this.target = target;
+			this.start  = start;	this.end    = end;
+		}
+		
+		@Override
+		protected void compute() {
+			
+			if (end - start <= BULK_THRESHOLD) {
+				
+				for (int i=start; i<end; i++)
+					target[i] = fold(source[i]);
+			
+			}
+			else {
+				
+				final int middle = (start + end) >>> 1;
+				invokeAll(new FoldTask(source, target, start, middle), new FoldTask(source, target, middle, end));
+			
+			}
+		}
+	
+	}
+
+}
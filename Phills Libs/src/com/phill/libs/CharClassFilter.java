@@ -0,0 +1,269 @@
+package com.phill.libs;
+
+import java.io.IOException;
+
+/** Implements a single-pass, table-driven character filter used by the <code>extract*</code> methods of {@link StringUtils}.
+ *  Each filter holds a lookup table of the accepted ASCII characters, so the input is scanned exactly once,
+ *  without compiling any {@link java.util.regex.Pattern}. Characters outside the ASCII range are never accepted.
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.1, 18/OCT/2026 */
+public final class CharClassFilter {
+
+	/** Accepts only digits (0-9). */
+	public static final CharClassFilter DIGITS = new CharClassFilter("0123456789");
+
+	/** Accepts only letters (A-Z, a-z). */
+	public static final CharClassFilter ALPHABET = new CharClassFilter("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz");
+
+	/** Accepts letters (A-Z, a-z) and the space character. */
+	public static final CharClassFilter ALPHABET_SPACE = ALPHABET.with(" ");
+
+	/** Accepts letters (A-Z, a-z) and digits (0-9). */
+	public static final CharClassFilter ALPHANUMERIC = ALPHABET.with("0123456789");
+
+	/** Accepts letters (A-Z, a-z), digits (0-9) and the space character. */
+	public static final CharClassFilter ALPHANUMERIC_SPACE = ALPHANUMERIC.with(" ");
+
+	// Lookup table of accepted ASCII characters
+	private final boolean[] table;
+
+	/** Creates a new filter accepting only the ASCII characters contained in <code>accepted</code>.
+	 *  @param accepted - accepted characters
+	 *  @throws IllegalArgumentException if <code>accepted</code> contains a non-ASCII character. */
+	public CharClassFilter(final CharSequence accepted) {
+		this(new boolean[128], accepted);
+	}
+
+	/** Internal constructor, fills the given <code>table</code> with the <code>accepted</code> characters. */
+	private CharClassFilter(final boolean[] table, final CharSequence accepted) {
+
+		for (int i=0; i<accepted.length(); i++) {
+
+			final char c = accepted.charAt(i);
+
+			if (c >= 128)
+				throw new IllegalArgumentException("Only ASCII characters are supported: " + c);
+
+			table[c] = true;
+		}
+
+		this.table = table;
+	}
+
+	/** Creates a new filter accepting the characters of this one plus the given <code>accepted</code> characters.
+	 *  @param accepted - additional accepted characters
+	 *  @return A new filter. */
+	public CharClassFilter with(final CharSequence accepted) {
+		return new CharClassFilter(this.table.clone(), accepted);
+	}
+
+	/** Tells if the given character is accepted by this filter.
+	 *  @param c - character
+	 *  @return 'true' if <code>c</code> belongs to this filter's character class, or 'false' otherwise. */
+	public boolean accepts(final char c) {
+		return (c < 128) && table[c];
+	}
+
+	/** Counts how many characters of <code>input</code> are accepted by this filter.
+	 *  @param input - character sequence
+	 *  @return Number of accepted characters. */
+	public int count(final CharSequence input) {
+
+		int count = 0;
+
+		for (int i=0, length = input.length(); i<length; i++)
+			if (accepts(input.charAt(i)))
+				count++;
+
+		return count;
+	}
+
+	/** Tells if every character of <code>input</code> is accepted by this filter.
+	 *  @param input - character sequence
+	 *  @return 'true' if all characters are accepted (or if <code>input</code> is empty), or 'false' otherwise. */
+	public boolean matchesAll(final CharSequence input) {
+
+		for (int i=0, length = input.length(); i<length; i++)
+			if (!accepts(input.charAt(i)))
+				return false;
+
+		return true;
+	}
+
+	/** Removes all the characters not accepted by this filter.
+	 *  If every character is accepted and <code>input</code> is already a {@link String}, it is returned as is.
+	 *  Otherwise, the accepted characters are counted first, so the only buffer allocated besides the result has exactly
+	 *  the result length (the {@link String} constructor always copies its source, there is no way to hand a buffer over to it).
+	 *  @param input - character sequence
+	 *  @return A string containing only the accepted characters, or 'null' if <code>input</code> is null. */
+	public String filter(final CharSequence input) {
+
+		if (input == null)
+			return null;
+
+		final int length = input.length();
+		int i = 0;
+
+		// Fast path: skipping the leading accepted characters
+		while ((i < length) && accepts(input.charAt(i)))
+			i++;
+
+		if (i == length)
+			return input.toString();
+
+		// Sizing the result, the character at 'i' is the first rejected one
+		int size = i;
+
+		for (int j=i+1; j<length; j++)
+			if (accepts(input.charAt(j)))
+				size++;
+
+		if (size == 0)
+			return "";
+
+		final char[] buffer = new char[size];
+		int k = 0;
+
+		for (int j=0; j<i; j++)
+			buffer[k++] = input.charAt(j);
+
+		for (int j=i+1; j<length; j++) {
+
+			final char c = input.charAt(j);
+
+			if (accepts(c))
+				buffer[k++] = c;
+		}
+
+		return new String(buffer);
+	}
+
+	/** Replaces the characters not accepted by this filter with the given <code>replacement</code>.
+	 *  @param input - character sequence
+	 *  @param replacement - replacement sequence ('null' or empty to just remove the rejected characters)
+	 *  @param collapse - if 'true', each run of consecutive rejected characters is replaced by a single <code>replacement</code>,
+	 *  otherwise every rejected character is replaced individually
+	 *  @return A new string, or 'null' if <code>input</code> is null.
+	 *  @see #filter(CharSequence) */
+	public String filter(final CharSequence input, final CharSequence replacement, final boolean collapse) {
+
+		if (input == null)
+			return null;
+
+		if ((replacement == null) || (replacement.length() == 0))
+			return filter(input);
+
+		if ((input instanceof String) && matchesAll(input))
+			return (String) input;
+
+		// Sizing the result, so that it is built in a single buffer of the exact length
+		final int length = input.length(), replacementLength = replacement.length();
+		boolean previousRejected = false;
+		int size = 0;
+
+		for (int i=0; i<length; i++) {
+
+			if (accepts(input.charAt(i))) {
+				size++;
+				previousRejected = false;
+			}
+			else {
+
+				if (!(collapse && previousRejected))
+					size += replacementLength;
+
+				previousRejected = true;
+			}
+		}
+
+		final char[] buffer = new char[size];
+		int k = 0;
+		previousRejected = false;
+
+		for (int i=0; i<length; i++) {
+
+			final char c = input.charAt(i);
+
+			if (accepts(c)) {
+				buffer[k++] = c;
+				previousRejected = false;
+			}
+			else {
+
+				if (!(collapse && previousRejected))
+					for (int j=0; j<replacementLength; j++)
+						buffer[k++] = replacement.charAt(j);
+
+				previousRejected = true;
+			}
+		}
+
+		return new String(buffer);
+	}
+
+	/** Appends to the given <code>sink</code> the characters of <code>input</code>, replacing the ones not accepted by this filter.
+	 *  @param input - character sequence
+	 *  @param replacement - replacement sequence ('null' or empty to just remove the rejected characters)
+	 *  @param collapse - if 'true', each run of consecutive rejected characters is replaced by a single <code>replacement</code>,
+	 *  otherwise every rejected character is replaced individually
+	 *  @param sink - a caller-supplied buffer, that may be reused across calls
+	 *  @return The given <code>sink</code>. */
+	public StringBuilder filter(final CharSequence input, final CharSequence replacement, final boolean collapse, final StringBuilder sink) {
+
+		final boolean replace = (replacement != null) && (replacement.length() > 0);
+		boolean previousRejected = false;
+
+		for (int i=0, length = input.length(); i<length; i++) {
+
+			final char c = input.charAt(i);
+
+			if (accepts(c)) {
+				sink.append(c);
+				previousRejected = false;
+			}
+			else {
+
+				if (replace && !(collapse && previousRejected))
+					sink.append(replacement);
+
+				previousRejected = true;
+			}
+		}
+
+		return sink;
+	}
+
+	/** Appends to the given <code>sink</code> the characters of <code>input</code>, replacing the ones not accepted by this filter.
+	 *  @param input - character sequence
+	 *  @param replacement - replacement sequence ('null' or empty to just remove the rejected characters)
+	 *  @param collapse - if 'true', each run of consecutive rejected characters is replaced by a single <code>replacement</code>,
+	 *  otherwise every rejected character is replaced individually
+	 *  @param sink - output
+	 *  @return The given <code>sink</code>.
+	 *  @throws IOException if the <code>sink</code> could not be written. */
+	public <A extends Appendable> A filter(final CharSequence input, final CharSequence replacement, final boolean collapse, final A sink) throws IOException {
+
+		final boolean replace = (replacement != null) && (replacement.length() > 0);
+		boolean previousRejected = false;
+
+		for (int i=0, length = input.length(); i<length; i++) {
+
+			final char c = input.charAt(i);
+
+			if (accepts(c)) {
+				sink.append(c);
+				previousRejected = false;
+			}
+			else {
+
+				if (replace && !(collapse && previousRejected))
+					sink.append(replacement);
+
+				previousRejected = true;
+			}
+		}
+
+		return sink;
+	}
+
+}
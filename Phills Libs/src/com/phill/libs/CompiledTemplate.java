@@ -0,0 +1,251 @@
+package com.phill.libs;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** Represents a text template with reserved words in format <code>$FOO_BAR</code> parsed only once.<br>
+ *  The placeholder positions are located at compile time, so every render is a single pass over the template,
+ *  appending literal segments and parameter values straight into the output. Instances are immutable and thread-safe.<br>
+ *  Note: a placeholder is a '$' followed by letters, digits or underscores, and it is always matched as a whole word,
+ *  so a <code>$MAP</code> key does not replace the beginning of a <code>$MAPS</code> placeholder by {@link #render(Map)}.
+ *  {@link #renderByPrefix(Map)} keeps the behavior of {@link StringUtils#populate(String, Map)} instead, where it does.<br>
+ *  Quick example:<br><br>
+ *  <code>CompiledTemplate template = CompiledTemplate.of("This is a $OBJECT_TYPE to be replaced with $MAP data!");</code><br>
+ *  <code>String output = template.render(parameters);</code>
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.2, 18/OCT/2026
+ *  @see StringUtils#populate(String, Map) */
+public final class CompiledTemplate {
+	
+	// Maximum number of templates kept by 'of' method
+	private static final int CACHE_SIZE = 256;
+	private static final ConcurrentHashMap<String,CompiledTemplate> CACHE = new ConcurrentHashMap<String,CompiledTemplate>(CACHE_SIZE * 2);
+	
+	private final String template;
+	
+	// Literal segments are stored as [start,end) offsets of the template, placeholders as the full '$NAME' key
+	private final int[] literalStart, literalEnd;
+	private final String[] placeholders;
+	
+	/** Parses the given <code>template</code>.
+	 *  @param template - string with reserved words in format $FOO_BAR. */
+	private CompiledTemplate(final String template) {
+		
+		final int length = template.length();
+		
+		// First pass only counts placeholders, so the arrays are created with their final size
+		int count = 0;
+		
+		for (int i=0; i<length; i++) {
+			
+			if ((template.charAt(i) == '$') && (i+1 < length) && isNameChar(template.charAt(i+1))) {
+				
+				count++;	i++;
+				
+				while ((i+1 < length) && isNameChar(template.charAt(i+1)))
+					i++;
+			}
+		}
+		
+		this.template     = template;
+		this.placeholders = new String[count];
+		this.literalStart = new int[count + 1];
+		this.literalEnd   = new int[count + 1];
+		
+		int segment = 0, start = 0;
+		
+		for (int i=0; i<length; i++) {
+			
+			if ((template.charAt(i) == '$') && (i+1 < length) && isNameChar(template.charAt(i+1))) {
+				
+				int end = i + 2;
+				
+				while ((end < length) && isNameChar(template.charAt(end)))
+					end++;
+				
+				literalStart[segment] = start;
+				literalEnd  [segment] = i;
+				placeholders[segment] = template.substring(i, end);
+				
+				segment++;	start = end;	i = end - 1;
+			}
+		}
+		
+		literalStart[segment] = start;
+		literalEnd  [segment] = length;
+	}
+	
+	/** Compiles the given <code>template</code> without caching it.
+	 *  @param template - string with reserved words in format $FOO_BAR
+	 *  @return A new compiled template.
+	 *  @throws NullPointerException if the <code>template</code> is null. */
+	public static CompiledTemplate compile(final String template) {
+		
+		if (template == null)
+			throw new NullPointerException("The template must not be null");
+		
+		return new CompiledTemplate(template);
+	}
+	
+	/** Retrieves a compiled version of the given <code>template</code>, reusing a previous compilation if available.
+	 *  When the cache is full, an arbitrary template is evicted to make room for the new one.
+	 *  @param template - string with reserved words in format $FOO_BAR
+	 *  @return A compiled template.
+	 *  @throws NullPointerException if the <code>template</code> is null. */
+	public static CompiledTemplate of(final String template) {
+		
+		if (template == null)
+			throw new NullPointerException("The template must not be null");
+		
+		CompiledTemplate compiled = CACHE.get(template);
+		
+		if (compiled != null)
+			return compiled;
+		
+		compiled = compile(template);
+		
+		// Making room for the new template
+		if (CACHE.size() >= CACHE_SIZE) {
+			
+			final Iterator<String> keys = CACHE.keySet().iterator();
+			
+			if (keys.hasNext()) {
+				keys.next();
+				keys.remove();
+			}
+		}
+		
+		final CompiledTemplate previous = CACHE.putIfAbsent(template, compiled);
+		
+		return (previous == null) ? compiled : previous;
+	}
+	
+	/** Tells if the given <code>key</code> is a well-formed placeholder ('$' followed by letters, digits or underscores).
+	 *  @param key - a parameter key
+	 *  @return 'true' if <code>key</code> can be matched by a compiled template, or 'false' otherwise. */
+	public static boolean isPlaceholder(final String key) {
+		
+		if ((key == null) || (key.length() < 2) || (key.charAt(0) != '$'))
+			return false;
+		
+		for (int i=1; i<key.length(); i++)
+			if (!isNameChar(key.charAt(i)))
+				return false;
+		
+		return true;
+	}
+	
+	/** @return The original template string. */
+	public String getTemplate() {
+		return this.template;
+	}
+	
+	/** @return How many placeholders this template contains (repetitions included). */
+	public int getPlaceholderCount() {
+		return this.placeholders.length;
+	}
+	
+	/** Replaces the placeholders of this template with data read from <code>parameters</code> map.
+	 *  Placeholders without a corresponding (non-null) value are kept as they are.
+	 *  @param parameters - A map containing keys (in format $FOO_BAR) and values to fill this template
+	 *  @return A new string with reserved words replaced by data coming from the parameters map. */
+	public String render(final Map<String,?> parameters) {
+		return render(parameters, new StringBuilder(template.length() + (placeholders.length << 4))).toString();
+	}
+	
+	/** Replaces the placeholders of this template with data read from <code>parameters</code> map,
+	 *  writing the result into the given <code>sink</code>.
+	 *  @param parameters - A map containing keys (in format $FOO_BAR) and values to fill this template
+	 *  @param sink - output buffer
+	 *  @return The given <code>sink</code>. */
+	public StringBuilder render(final Map<String,?> parameters, final StringBuilder sink) {
+		
+		try {
+			render(parameters, (Appendable) sink);
+			return sink;
+		}
+		catch (IOException exception) {
+			throw new UncheckedIOException(exception);	// StringBuilder never throws it
+		}
+	}
+	
+	/** Replaces the placeholders of this template with data read from <code>parameters</code> map,
+	 *  writing the result into the given <code>sink</code>.
+	 *  @param parameters - A map containing keys (in format $FOO_BAR) and values to fill this template
+	 *  @param sink - output
+	 *  @return The given <code>sink</code>.
+	 *  @throws IOException if the <code>sink</code> could not be written. */
+	public <A extends Appendable> A render(final Map<String,?> parameters, final A sink) throws IOException {
+		return render(parameters, sink, false);
+	}
+	
+	/** Replaces the placeholders of this template with data read from <code>parameters</code> map, matching each placeholder
+	 *  with the longest key that is a prefix of it, just like the replacement done by {@link StringUtils#populate(String, Map)}:
+	 *  a <code>$NAME</code> key replaces the beginning of a <code>$NAMEs</code> placeholder, keeping the rest ('s') as it is.
+	 *  Placeholders without a matching (non-null) value are kept as they are.<br>
+	 *  Note: unlike the old replacement, one key after another, the values inserted are never searched for keys.
+	 *  @param parameters - A map containing keys (in format $FOO_BAR) and values to fill this template
+	 *  @return A new string with reserved words replaced by data coming from the parameters map. */
+	public String renderByPrefix(final Map<String,?> parameters) {
+		
+		final StringBuilder sink = new StringBuilder(template.length() + (placeholders.length << 4));
+		
+		try {
+			return render(parameters, sink, true).toString();
+		}
+		catch (IOException exception) {
+			throw new UncheckedIOException(exception);	// StringBuilder never throws it
+		}
+	}
+	
+	@Override
+	public String toString() {
+		return this.template;
+	}
+	
+	/**************************** Internal Methods Section ***************************************/
+	
+	/** Writes this template into 'sink', matching the whole placeholders or, if 'prefix' is set, their longest prefixes found in 'parameters'. */
+	private <A extends Appendable> A render(final Map<String,?> parameters, final A sink, final boolean prefix) throws IOException {
+		
+		for (int i=0; i<placeholders.length; i++) {
+			
+			sink.append(template, literalStart[i], literalEnd[i]);
+			
+			final String placeholder = placeholders[i];
+			Object value = parameters.get(placeholder);
+			int end = placeholder.length();
+			
+			// Only the placeholders without an exact match look for shorter keys
+			if (prefix)
+				while ((value == null) && (--end > 1))
+					value = parameters.get(placeholder.substring(0, end));
+			
+			if (value == null) {
+				sink.append(placeholder);
+				continue;
+			}
+			
+			if (value instanceof CharSequence)
+				sink.append((CharSequence) value);
+			else
+				sink.append(value.toString());
+			
+			sink.append(placeholder, end, placeholder.length());
+		}
+		
+		final int last = placeholders.length;
+		sink.append(template, literalStart[last], literalEnd[last]);
+		
+		return sink;
+	}
+	
+	/** Tells if the given character can be part of a placeholder name. */
+	private static boolean isNameChar(final char c) {
+		return ((c >= 'A') && (c <= 'Z')) || ((c >= 'a') && (c <= 'z')) || ((c >= '0') && (c <= '9')) || (c == '_');
+	}
+
+}
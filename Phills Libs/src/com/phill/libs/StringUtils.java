@@ -1,17 +1,27 @@
 package com.phill.libs;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
 import java.net.URLEncoder;
+import java.nio.CharBuffer;
 import java.nio.charset.StandardCharsets;
-import java.text.Normalizer;
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.phill.libs.br.DocumentFormatter;
+import com.phill.libs.br.NameNormalizer;
+import com.phill.libs.br.ValorExtenso;
+
 /** Contains useful methods to manipulate {@link String} in Java applications.
  *  @author Felipe André - felipeandre.eng@gmail.com
- *  @version 2.7, 25/MAR/2023 */
+ *  @version 2.8, 18/OCT/2026 */
 public class StringUtils {
-
+	
 	/** Converts all blank or empty fields ('null',"null",'',"") in a SQL string to a SQL null field.
 	 *  @param sql - SQL string to be cleaned
 	 *  @return A SQL string without blank or empty fields. */
@@ -28,14 +38,31 @@ public class StringUtils {
 	 *  @return A new string containing alphanumeric characters (w/o) spaces.
 	 *  @return A new string containing only alphabets. */
 	public static String extractAlphabet(final String string, final String replacement, final boolean ignoreSpaces) {
-		return (string == null) ? null : (ignoreSpaces) ? string.replaceAll("[^A-Za-z]+", replacement).trim() : string.replaceAll("[^A-Za-z ]+", replacement);
+		return (string == null) ? null : (ignoreSpaces) ? CharClassFilter.ALPHABET.filter(string, replacement, true).trim() : CharClassFilter.ALPHABET_SPACE.filter(string, replacement, true);
 	}
 	
 	/** Extracts only numbers from the given string.
 	 *  @param string - String
 	 *  @return A new string containing only numbers. */
 	public static String extractNumbers(final String string) {
-		return (string == null) ? null : string.replaceAll("\\D+","").trim();
+		return CharClassFilter.DIGITS.filter(string);
+	}
+	
+	/** Extracts only numbers from the given character sequence.
+	 *  @param string - character sequence
+	 *  @return A new string containing only numbers.
+	 *  @since 2.8, 18/OCT/2026 */
+	public static String extractNumbers(final CharSequence string) {
+		return CharClassFilter.DIGITS.filter(string);
+	}
+	
+	/** Appends only the numbers of the given character sequence to a caller-supplied <code>sink</code>.
+	 *  @param string - character sequence
+	 *  @param sink - output buffer, it may be reused across calls
+	 *  @return The given <code>sink</code>.
+	 *  @since 2.8, 18/OCT/2026 */
+	public static StringBuilder extractNumbers(final CharSequence string, final StringBuilder sink) {
+		return CharClassFilter.DIGITS.filter(string, null, false, sink);
 	}
 	
 	/** Extracts only alphanumeric characters from the given string.
@@ -45,7 +72,7 @@ public class StringUtils {
 	 *  @return A new string containing alphanumeric characters (w/o) spaces.
 	 *  @since 2.3, 21/APR/2021 */
 	public static String extractAlphaNumeric(final String string, final String replacement, final boolean ignoreSpaces) {
-		return (string == null) ? null : (ignoreSpaces) ? string.replaceAll("[^a-zA-Z0-9]", replacement) : string.replaceAll("[^a-zA-Z0-9 ]", replacement);
+		return (string == null) ? null : (ignoreSpaces) ? CharClassFilter.ALPHANUMERIC.filter(string, replacement, false) : CharClassFilter.ALPHANUMERIC_SPACE.filter(string, replacement, false);
 	}
 	
 	/** Extracts a short name from a full name following these rules:<br>
@@ -54,29 +81,7 @@ public class StringUtils {
 	 *  @param name - full name
 	 *  @return A short name following the rules descripted above, or the given <code>name</code> if it has not more than two 'subnames'. */
 	public static String getShortName(final String name) {
-		
-		if (name == null)
-			return null;
-		
-		try {
-			
-			String[] subnames = name.split(" ");
-			StringBuilder sb = new StringBuilder();
-			
-			sb.append(subnames[0] + " ");
-			sb.append(subnames[1]);
-				
-			if (subnames[1].length() <= 3)
-				if (subnames.length >= 3 )
-					sb.append(" " + subnames[2]);
-			
-			return sb.toString();
-			
-		}
-		catch (ArrayIndexOutOfBoundsException exception) {
-			return name;
-		}
-		
+		return NameNormalizer.abrevia(name);
 	}
 	
 	/** Detects if the given string has multiple spaces between words.
@@ -118,22 +123,37 @@ public class StringUtils {
 	 *  <code>parameters.put("$OBJECT_TYPE","string"); parameters.put("$MAP","map");</code><br><br>
 	 *  <code>System.out.println( StringUtils.populate(string,parameters) );</code><br><br>
 	 *  // Expected output<br><br>
-	 *  This is a string to be replaced with map data!
+	 *  This is a string to be replaced with map data!<br>
+	 *  Note: a key also replaces the beginning of a longer reserved word (e.g. <code>$NAME</code> in <code>$NAMEs</code>), the longest key wins.
+	 *  When all keys are well-formed placeholders, the replacement is done in a single pass by a cached {@link CompiledTemplate}.
 	 *  @param string - string with reserved words in format $FOO_BAR.
 	 *  @param parameters - A map containing keys and values to fill the given 'string'.
-	 *  @return A new string with reserved words replaced by data coming from incoming the parameters map. */
+	 *  @return A new string with reserved words replaced by data coming from incoming the parameters map.
+	 *  @see CompiledTemplate */
 	public static String populate(String string, Map<String, Object> parameters) {
-	
+		
+		boolean compilable = true;
+		
+		for (Map.Entry<String,Object> set: parameters.entrySet()) {
+			
+			if (set.getValue() == null)
+				System.err.println(":: NULL Parameter: " + set.getKey());
+			
+			compilable &= CompiledTemplate.isPlaceholder(set.getKey());
+		}
+		
+		if (compilable)
+			return CompiledTemplate.of(string).renderByPrefix(parameters);
+		
+		// Keys in free format are still replaced one by one
 		for (Map.Entry<String,Object> set: parameters.entrySet()) {
 			
 			Object o = set.getValue();
 			
-			if (o == null)
-				System.err.println(":: NULL Parameter: " + set.getKey());
-			else
-				string = string.replace(set.getKey(),set.getValue().toString());
+			if (o != null)
+				string = string.replace(set.getKey(),o.toString());
 		}
-	
+		
 		return string;
 	}
 	
@@ -143,59 +163,48 @@ public class StringUtils {
 	 *  @return HTML formatted string. */
 	public static String toHTML(String s) {
 		
-        StringBuilder builder = new StringBuilder();
-        
-        builder.append("<html>");
-        
-        boolean previousWasASpace = false;
-        for (char c : s.toCharArray()) {
-            if (c == ' ') {
-                if (previousWasASpace) {
-                    builder.append("&nbsp;");
-                    previousWasASpace = false;
-                    continue;
-                }
-                previousWasASpace = true;
-            } else {
-                previousWasASpace = false;
-            }
-            switch (c) {
-                case '<':
-                    builder.append("&lt;");
-                    break;
-                case '>':
-                    builder.append("&gt;");
-                    break;
-                case '&':
-                    builder.append("&amp;");
-                    break;
-                case '"':
-                    builder.append("&quot;");
-                    break;
-                case '\n':
-                    builder.append("<br>");
-                    break;
-                // We need Tab support here, because we print StackTraces as HTML
-                case '\t':
-                    builder.append("&nbsp; &nbsp; &nbsp;");
-                    break;
-                default:
-                    builder.append(c);
-
-            }
-        }
-        
-        builder.append("</html>");
-        
-        String converted = builder.toString();
-        String str = "(?i)\\b((?:https?://|www\\d{0,3}[.]|[a-z0-9.\\-]+[.][a-z]{2,4}/)(?:[^\\s()<>]+|\\(([^\\s()<>]+|(\\([^\\s()<>]+\\)))*\\))+(?:\\(([^\\s()<>]+|(\\([^\\s()<>]+\\)))*\\)|[^\\s`!()\\[\\]{};:\'\".,<>?«»“”‘’]))";
-        Pattern patt = Pattern.compile(str);
-        Matcher matcher = patt.matcher(converted);
-        
-        converted = matcher.replaceAll("<a href=\"$1\">$1</a>");
-        
-        return converted;
-    }
+		StringBuilder builder = new StringBuilder(s.length() + (s.length() >> 3) + 16);
+		
+		try { toHTML(s, builder); }
+		catch (IOException exception) { throw new UncheckedIOException(exception); }	// StringBuilder never throws it
+		
+		return builder.toString();
+	}
+	
+	/** Converts the given plain text to HTML, writing the result straight into <code>output</code>.
+	 *  The characters are escaped and the URLs are turned into links during the same pass.
+	 *  @param text - Plain text
+	 *  @param output - HTML output (a {@link Writer}, {@link StringBuilder}, etc)
+	 *  @throws IOException if the <code>output</code> could not be written.
+	 *  @since 2.8, 18/OCT/2026 */
+	public static void toHTML(final CharSequence text, final Appendable output) throws IOException {
+		
+		HTMLStream stream = new HTMLStream(output);
+		
+		stream.write(text, 0, text.length());
+		stream.close();
+	}
+	
+	/** Converts the plain text coming from <code>input</code> to HTML, writing the result straight into <code>output</code>.
+	 *  The text is processed chunk by chunk, so inputs larger than the available memory can be converted.
+	 *  Note: the <code>input</code> is not closed by this method.
+	 *  @param input - Plain text input
+	 *  @param output - HTML output (a {@link Writer}, {@link StringBuilder}, etc)
+	 *  @throws IOException if the <code>input</code> could not be read or the <code>output</code> could not be written.
+	 *  @since 2.8, 18/OCT/2026 */
+	public static void toHTML(final Reader input, final Appendable output) throws IOException {
+		
+		HTMLStream stream = new HTMLStream(output);
+		CharBuffer buffer = CharBuffer.allocate(8192);
+		
+		while (input.read(buffer) != -1) {
+			buffer.flip();
+			stream.write(buffer, 0, buffer.length());
+			buffer.clear();
+		}
+		
+		stream.close();
+	}
 	
 	/** Converts a <code>string</code> to a URL link format.
 	 *  @param string - a string
@@ -230,12 +239,132 @@ public class StringUtils {
 	/** Turns the special characters in the given string to normal ones.
 	 *  basically removing accents from vowels and the letter 'ç' -> 'c'.
 	 *  @param string - String
-	 *  @return A new string without special characters in vowels an letter c. */
+	 *  @return A new string without special characters in vowels an letter c.
+	 *  @see ASCIIFolder */
 	public static String wipeSpecialCharacters(final String string) {
-		
-        return (string == null) ? string : Normalizer.normalize(string, Normalizer.Form.NFD).replaceAll("[^\\p{ASCII}]", "");
+		return ASCIIFolder.fold(string);
     }
 	
+	/** Turns the special characters in the given strings to normal ones, in parallel when the array is large enough.
+	 *  @param strings - array of strings
+	 *  @return A new array with the strings without special characters, in the same order.
+	 *  @since 2.8, 18/OCT/2026 */
+	public static String[] wipeSpecialCharacters(final String[] strings) {
+		return ASCIIFolder.fold(strings);
+	}
+	
+	/** Turns the special characters in the given strings to normal ones, in parallel when the list is large enough.
+	 *  @param strings - list of strings
+	 *  @return A new list with the strings without special characters, in the same order.
+	 *  @since 2.8, 18/OCT/2026 */
+	public static List<String> wipeSpecialCharacters(final List<String> strings) {
+		return ASCIIFolder.fold(strings);
+	}
+	
+	/** Streaming plain text to HTML converter used by <code>toHTML</code> methods. Characters are escaped as they come, while
+	 *  the current non-whitespace run is kept in a bounded buffer, so the URLs can be linked before the run is written out. */
+	private static class HTMLStream {
+		
+		// Matches URLs (adapted from John Gruber's pattern), compiled only once
+		private static final Pattern URL_PATTERN = Pattern.compile("(?i)\\b((?:https?://|www\\d{0,3}[.]|[a-z0-9.\\-]+[.][a-z]{2,4}/)(?:[^\\s()<>]+|\\(([^\\s()<>]+|(\\([^\\s()<>]+\\)))*\\))+(?:\\(([^\\s()<>]+|(\\([^\\s()<>]+\\)))*\\)|[^\\s`!()\\[\\]{};:\'\".,<>?«»“”‘’]))");
+		
+		// Longest run kept in memory before being flushed (URLs are not split below this size)
+		private static final int MAX_RUN = 65536;
+		
+		private final Appendable output;
+		private final StringBuilder run;
+		private final Matcher matcher;
+		
+		private boolean previousWasASpace;
+		
+		private HTMLStream(final Appendable output) throws IOException {
+			
+			this.output  = output;
+			this.run     = new StringBuilder(256);
+			this.matcher = URL_PATTERN.matcher(run);
+			
+			output.append("<html>");
+		}
+		
+		/** Escapes the characters of <code>text</code> in the range [start,end). */
+		private void write(final CharSequence text, final int start, final int end) throws IOException {
+			
+			for (int i=start; i<end; i++) {
+				
+				final char c = text.charAt(i);
+				
+				if (c == ' ') {
+					
+					if (previousWasASpace) {
+						run.append("&nbsp;");
+						previousWasASpace = false;
+						continue;
+					}
+					
+					previousWasASpace = true;
+				}
+				else
+					previousWasASpace = false;
+				
+				switch (c) {
+					
+					case '<':  run.append("&lt;");   break;
+					case '>':  run.append("&gt;");   break;
+					case '&':  run.append("&amp;");  break;
+					case '"':  run.append("&quot;"); break;
+					
+					// Whitespaces end the current run, as URLs never contain them
+					case '\n':
+						flush();	output.append("<br>");
+						break;
+					
+					// We need Tab support here, because we print StackTraces as HTML
+					case '\t':
+						flush();	output.append("&nbsp; &nbsp; &nbsp;");
+						break;
+					
+					case ' ': case '\r': case '\f': case '\u000B':
+						flush();	output.append(c);
+						break;
+					
+					default:
+						run.append(c);
+				}
+				
+				if (run.length() >= MAX_RUN)
+					flush();
+			}
+		
+		}
+		
+		/** Writes the current run to the output, replacing its URLs by links. */
+		private void flush() throws IOException {
+			
+			if (run.length() == 0)
+				return;
+			
+			int last = 0;
+			matcher.reset(run);
+			
+			while (matcher.find()) {
+				
+				output.append(run, last, matcher.start());
+				output.append("<a href=\"").append(run, matcher.start(1), matcher.end(1)).append("\">")
+				                           .append(run, matcher.start(1), matcher.end(1)).append("</a>");
+				last = matcher.end();
+			}
+			
+			output.append(run, last, run.length());
+			run.setLength(0);
+		}
+		
+		/** Writes the pending run and closes the HTML tag. */
+		private void close() throws IOException {
+			flush();	output.append("</html>");
+		}
+	
+	}
+	
 	/** (EN) Class designed to handle common Brazilian strings like names, adresses and currency.<br>
 	 *  (PT) Classe dedicada a manupulação de algumas strings clássicas do BR, tais como nomes, endereços e moeda.
 	 *  @author Felipe André - felipeandre.eng@gmail.com 
@@ -244,15 +373,11 @@ public class StringUtils {
 		
 		/** Aplica a máscara de CEP em um 'cep' informado.
 		 *  @param cep - CEP
-		 *  @return Nova string contendo um CEP formatado com a máscara de CEP. */
+		 *  @return Nova string contendo um CEP formatado com a máscara de CEP.
+		 *  @see com.phill.libs.br.CEPIndex */
 		public static String formataCEP(String cep) {
 			
-			cep = extractNumbers(cep);
-			
-			if ((cep == null) || (cep.length() != 8))
-				return null;
-			
-			return String.format("%s-%s",cep.substring(0,5),cep.substring(5));
+			return DocumentFormatter.cep(cep);
 		}
 		
 		/** Aplica a máscara de CNPJ em um 'cnpj' informado.
@@ -261,199 +386,27 @@ public class StringUtils {
 		 *  @since 2.4, 21/APR/2021 */
 		public static String formataCNPJ(String cnpj) {
 			
-			cnpj = extractNumbers(cnpj);
-			
-			if ((cnpj == null) || (cnpj.length() != 14))
-				return cnpj;
-			
-			return String.format("%s.%s.%s/%s-%s", cnpj.substring(0,2), cnpj.substring(2,5), cnpj.substring(5,8), cnpj.substring(8,12), cnpj.substring(12) );
+			return DocumentFormatter.cnpjNumerico(cnpj);
 		}
 		
 		/** Normaliza um nome, ou seja, converte suas iniciais em letra maiúscula,
 		 *  exceto os pronomes (de, da, do, etc) e conectivos (e).
 		 *  @param nome - Nome próprio
-		 *  @return Nome normalizado. */
+		 *  @return Nome normalizado.
+		 *  @see NameNormalizer */
 		public static String normaliza(final String nome) {
-			
-			// Se a entrada for nula, quebro o código aqui
-			if (nome == null)
-				return null;
-			
-			// Aqui já converto todo o nome pra caracteres minúsculos e crio um array de partes do nome
-			String array[] = nome.toLowerCase().split(" ");
-			String nova = "";
-			
-			try {
-				
-				// Iterando sobre as sub-partes do nome
-				for (String parte: array)
-					
-					// Se algum dos pronomes ou conectivos abaixo for encontrado, deixo do jeito que está
-					if (parte.equals("da") || (parte.equals("de")) || parte.equals("do") || parte.equals("e") || parte.equals("das") || parte.equals("dos"))
-						nova += parte + " ";
-					
-					// senão, converto a primeira letra pra maiúscula
-					else
-						nova += Character.toUpperCase(parte.charAt(0)) + parte.substring(1) + " ";
-				
-			}
-			
-			// Se algum erro foi encontrado durante o processamento, simplesmente retorno o nome original
-			catch (Exception exception) {
-				return nome;
-			}
-			
-			// Por fim, aparo as pontas deixadas pelo laço
-			return trim(nova);
+			return NameNormalizer.PADRAO.normaliza(nome);
 		}
 		
 		/** Converte um valor decimal para notação de moeda (R$) em extenso.<br>
 		 *  Nota: este método converte números até 999 trilhões de reais.
 		 *  @param valor - Valor a ser convertido em extenso
-		 *  @return O texto por extenso referente ao valor informado. */
+		 *  @return O texto por extenso referente ao valor informado.
+		 *  @see ValorExtenso */
 		public static String praReais(double valor) {
-			
-			// O código acaba aqui se o valor for zero
-			if (valor == 0f)
-				return("zero");
-			
-			long inteiro  = (long) Math.abs(valor); // parte inteira do valor
-			double resto  = (valor - inteiro);      // parte fracionária do valor
-			String valorS = String.valueOf(inteiro);
-			
-			// Valor limite suportado
-			if (valorS.length() > 15)
-				return("Erro: valor superior a 999 trilhões.");
-			
-			String s = "", saux, valorP;
-		    String centavos = String.valueOf((int) Math.round(resto * 100));
-		    
-		    String[] unidade = {"", "um", "dois", "três", "quatro", "cinco",
-		    					"seis", "sete", "oito", "nove", "dez", "onze",
-		    					"doze", "treze", "quatorze", "quinze", "dezesseis",
-		    					"dezessete", "dezoito", "dezenove"};
-		    String[] centena = {"", "cento", "duzentos", "trezentos",
-		    					"quatrocentos", "quinhentos", "seiscentos",
-		    					"setecentos", "oitocentos", "novecentos"};
-		    String[] dezena  = {"", "", "vinte", "trinta", "quarenta", "cinquenta",
-		    					"sessenta", "setenta", "oitenta", "noventa"};
-		    String[] qualificaS = {"", "mil", "milhão", "bilhão", "trilhão"};
-		    String[] qualificaP = {"", "mil", "milhões", "bilhões", "trilhões"};
-		    
-		    // Definindo o extenso da parte inteira do valor
-		    int n, unid, dez, cent, tam, i = 0;
-		    boolean umReal = false, tem = false;
-		    
-		    // Retira do valor a 1a. parte, 2a. parte, por exemplo, para 123456789:
-			// 1a. parte = 789 (centena)
-			// 2a. parte = 456 (mil)
-			// 3a. parte = 123 (milhões)
-		    while (!valorS.equals("0")) {
-		    	
-		    	tam = valorS.length();
-		    	
-		    	if (tam > 3) {
-		    		valorP = valorS.substring(tam-3, tam);
-			        valorS = valorS.substring(0, tam-3);
-		    	}
-		    	else { // última parte do valor
-		    		valorP = valorS;
-			        valorS = "0";
-		    	}
-		    	
-		    	if (!valorP.equals("000")) {
-		    		
-		    		saux = "";
-		    		
-		    		if (valorP.equals("100"))
-		    			saux = "cem";
-		    		
-		    		else {
-		    			
-		    			n = Integer.parseInt(valorP, 10);  // para n = 371, tem-se:
-		    			cent = (n / 100);                  // cent = 3 (centena trezentos)
-		    			dez  = (n % 100) / 10;             // dez  = 7 (dezena setenta)
-		    			unid = (n % 100) % 10;             // unid = 1 (unidade um)
-		    			
-		    			if (cent != 0)
-		    				saux = centena[cent];
-		    			
-		    			if ((n % 100) <= 19) {
-		    				if (saux.length() != 0)
-		    					saux = saux + " e " + unidade[n % 100];
-		    				else saux = unidade[n % 100];
-		    			}
-		    			
-		    			else {
-		    				if (saux.length() != 0)
-		    					saux = saux + " e " + dezena[dez];
-		    				else
-		    					saux = dezena[dez];
-		    				
-		    				if (unid != 0) {
-		    					if (saux.length() != 0)
-		    						saux = saux + " e " + unidade[unid];
-		    					else
-		    						saux = unidade[unid];
-		    				}
-		    			}
-		    		}
-		    		
-		    		if (valorP.equals("1") || valorP.equals("001")) {
-		    			if (i == 0) // 1a. parte do valor (um real)
-		    				umReal = true;
-		    			else
-		    				saux = saux + " " + qualificaS[i];
-		    		}
-		    		else if (i != 0)
-		    			saux = saux + " " + qualificaP[i];
-		    			if (s.length() != 0)
-		    				s = saux + ", " + s;
-		    			else
-		    				s = saux;
-		    	}
-		    	
-		    	if (((i == 0) || (i == 1)) && s.length() != 0)
-		    		tem = true; // tem centena ou mil no valor
-		    		i = i + 1;  // próximo qualificador: 1- mil, 2- milhão, 3- bilhão, ...
-		    }
-		    
-		    if (s.length() != 0) {
-		    	if (umReal)
-		    		s = s + " real";
-		    	else if (tem)
-		    		s = s + " reais";
-		    	else
-		    		s = s + " de reais";
-		    }
-		    
-		    // Definindo o extenso dos centavos do valor
-		    if (!centavos.equals("0")) { // valor com centavos
-		    	if (s.length() != 0)     // se não é valor somente com centavos
-		    		s = s + " e ";
-		    	if (centavos.equals("1"))
-		    		s = s + "um centavo";
-		    	else {
-		    		n = Integer.parseInt(centavos, 10);
-		    		if (n <= 19)
-		    			s = s + unidade[n];
-		    		else {               // para n = 37, tem-se:
-		    			
-		    			unid = n % 10;   // unid = 37 % 10 = 7 (unidade sete)
-		    			dez = n / 10;    // dez  = 37 / 10 = 3 (dezena trinta)
-		    			s = s + dezena[dez];
-		    			
-		    			if (unid != 0)
-		    				s = s + " e " + unidade[unid];
-		    			
-		    		}
-		    		
-		    		s = s + " centavos";
-		    	}
-		    }
-		    return s;
+			return ValorExtenso.extenso(BigDecimal.valueOf(valor));
 		}
-		
-	}
 	
+	}
+
 }
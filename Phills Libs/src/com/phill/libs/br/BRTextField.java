@@ -1,7 +1,11 @@
 package com.phill.libs.br;
 
 import java.awt.Color;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 import javax.swing.JFormattedTextField;
+import javax.swing.Timer;
 import javax.swing.text.MaskFormatter;
 
 import com.phill.libs.StringUtils;
@@ -11,9 +15,12 @@ import com.phill.libs.ui.KeyReleasedListener;
  *  validação dos dados inseridos de acordo com o método abstrato 'parse'.
  *  Caso o número esteja correto, o campo muda de cor para 'verde', caso
  *  contrário, muda para 'vermelho'. Se o número digitado estiver
- *  ainda incompleto, o campo permanece em 'branco'.
+ *  ainda incompleto, o campo permanece em 'branco'.<br>
+ *  Durante a digitação, a validação é adiada até que o usuário pare de digitar por alguns milissegundos
+ *  ({@link #setAtrasoValidacao(int)}), e as alterações feitas dentro de {@link #carregaEmLote(Runnable)}
+ *  são validadas uma única vez, ao final da carga. O fundo só é repintado quando a cor muda.
  *  @author Felipe André - felipeandre.eng@gmail.com
- *  @version 1.1, 24/APR/2021
+ *  @version 1.2, 18/OCT/2026
  *  @see JFormattedTextField  */
 public abstract class BRTextField extends JFormattedTextField {
 
@@ -24,9 +31,56 @@ public abstract class BRTextField extends JFormattedTextField {
 	protected final Color gr_lt  = new Color(0x84efa5);
 	protected final Color rd_lt  = new Color(0xef8e84);
 	
+	/** Atraso padrão da validação durante a digitação, em milissegundos. */
+	public static final int ATRASO_PADRAO = 150;
+	
+	// Campos alterados durante as cargas em lote (acessados apenas pela EDT)
+	private static final Set<BRTextField> pendentes = new LinkedHashSet<BRTextField>();
+	private static int cargas;
+	
+	// Adia a validação durante a digitação
+	private final Timer temporizador;
+	
+	// Indica que um 'setValue' está em andamento, para que o 'setText' interno não valide o campo
+	private boolean ajustando;
+	
 	public BRTextField(final MaskFormatter mascara) {
 		super(mascara);
-		this.addKeyListener((KeyReleasedListener) (_) -> parse());
+		
+		this.temporizador = new Timer(ATRASO_PADRAO, (_) -> parse());
+		this.temporizador.setRepeats(false);
+		
+		this.addKeyListener((KeyReleasedListener) (_) -> temporizador.restart());
+	}
+	
+	/** Executa uma carga de valores em lote (ex.: preenchimento de um formulário a partir do banco de dados).
+	 *  Os campos alterados durante a carga são validados uma única vez, ao final dela. Cargas podem ser aninhadas.
+	 *  Este método deve ser chamado pela Event Dispatch Thread.
+	 *  @param carga - código que altera os campos */
+	public static void carregaEmLote(final Runnable carga) {
+		
+		cargas++;
+		
+		try {
+			carga.run();
+		}
+		finally {
+			
+			if (--cargas == 0) {
+				
+				final BRTextField[] campos = pendentes.toArray(new BRTextField[pendentes.size()]);
+				pendentes.clear();
+				
+				for (BRTextField campo: campos)
+					campo.parse();
+			}
+		}
+	}
+	
+	/** Define o tempo que a validação aguarda, após a última tecla, para ser executada.
+	 *  @param atraso - atraso em milissegundos (padrão: {@link #ATRASO_PADRAO}) */
+	public void setAtrasoValidacao(final int atraso) {
+		temporizador.setInitialDelay(atraso);
 	}
 
 	/** Aplica o texto e pinta este campo de acordo com as cores:<br>
@@ -35,7 +89,10 @@ public abstract class BRTextField extends JFormattedTextField {
 	 *  Branco - caso o número ainda esteja em digitação ou não. */
 	@Override
 	public void setText(final String string) {
-		super.setText(string);	parse();
+		super.setText(string);
+		
+		if (!ajustando)
+			valida();
 	}
 	
 	/** Aplica o valor e pinta este campo de acordo com as cores:<br>
@@ -44,7 +101,17 @@ public abstract class BRTextField extends JFormattedTextField {
 	 *  Branco - caso o número ainda esteja em digitação ou não. */
 	@Override
 	public void setValue(final Object value) {
-		super.setValue(value);	parse();
+		
+		ajustando = true;
+		
+		try {
+			super.setValue(value);
+		}
+		finally {
+			ajustando = false;
+		}
+		
+		valida();
 	}
 	
 	/** Verifica se este campo está vazio, ignorando os caracteres da máscara.
@@ -60,4 +127,32 @@ public abstract class BRTextField extends JFormattedTextField {
 	 *  @return 'true' se o número estiver completo e for válido ou 'false' caso contrário. */
 	public abstract boolean valido();
 	
+	/** Pinta este campo de acordo com o resultado da validação, apenas se a cor mudar:<br>
+	 *  Verde - {@link ValidationResult#VALID};<br>
+	 *  Branco - {@link ValidationResult#BAD_LENGTH} (número incompleto);<br>
+	 *  Vermelho - demais resultados.
+	 *  @param resultado - resultado da validação do número deste campo */
+	protected void pinta(final ValidationResult resultado) {
+		
+		final Color cor = (resultado == ValidationResult.BAD_LENGTH) ? Color.WHITE : resultado.isValid() ? gr_lt : rd_lt;
+		
+		if (!cor.equals(getBackground()))
+			setBackground(cor);
+	}
+	
+	/**************************** Internal Methods Section ***************************************/
+	
+	/** Valida este campo imediatamente, ou ao final da carga em lote em andamento. */
+	private void valida() {
+		
+		// O construtor da superclasse pode alterar o texto antes da criação do temporizador
+		if (temporizador != null)
+			temporizador.stop();
+		
+		if (cargas > 0)
+			pendentes.add(this);
+		else
+			parse();
+	}
+	
 }
@@ -0,0 +1,441 @@
+package com.phill.libs.br;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.phill.libs.br.DocumentValidator.Documento;
+
+/** Implementa a validação em lote de arquivos de CPF, CNPJ ou PIS (um documento por linha, em ASCII ou UTF-8).<br>
+ *  A entrada é lida em blocos de tamanho fixo, que são validados em paralelo e gravados na ordem original.
+ *  Como apenas alguns blocos ficam em memória ao mesmo tempo, o consumo de memória não depende do tamanho da entrada.<br>
+ *  Opcionalmente, os documentos válidos são gravados com a máscara aplicada (ex.: 123.456.789-09) e as linhas
+ *  rejeitadas são gravadas em um arquivo à parte, seguidas de ';' e do motivo da rejeição ({@link ValidationResult}).
+ *  Linhas em branco são ignoradas e as quebras de linha podem ser '\n', '\r\n' ou '\r'. Linhas com mais de
+ *  {@link #TAMANHO_MAXIMO_LINHA} bytes são rejeitadas como {@link ValidationResult#BAD_LENGTH} (e gravadas truncadas em
+ *  {@link #TAMANHO_MAXIMO_LINHA} bytes), sem que o restante delas seja mantido em memória.<br>
+ *  Quick example:<br><br>
+ *  <code>Resumo resumo = new BulkDocumentValidator(Documento.CPF).valida(entrada, saida, rejeitados);</code>
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026
+ *  @see DocumentValidator */
+public class BulkDocumentValidator {
+	
+	// Tamanho padrão dos blocos de leitura (1 MB)
+	private static final int TAMANHO_BLOCO = 1 << 20;
+	
+	/** Tamanho máximo de uma linha, em bytes. Linhas maiores são rejeitadas como {@link ValidationResult#BAD_LENGTH}. */
+	public static final int TAMANHO_MAXIMO_LINHA = 4096;
+	
+	// Máscaras aplicadas aos documentos válidos
+	private static final byte[] MASCARA_CPF  = "###.###.###-##"    .getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] MASCARA_CNPJ = "##.###.###/####-##".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] MASCARA_PIS  = "###.#####.##-#"    .getBytes(StandardCharsets.US_ASCII);
+	
+	private final Documento documento;
+	private final byte[] mascara;
+	
+	private int tamanhoBloco = TAMANHO_BLOCO;
+	private int paralelismo  = Runtime.getRuntime().availableProcessors();
+	
+	/** Cria um validador em lote para o tipo de <code>documento</code> informado.
+	 *  @param documento - tipo de documento das linhas da entrada */
+	public BulkDocumentValidator(final Documento documento) {
+		
+		this.documento = documento;
+		
+		switch (documento) {
+			case CPF:  this.mascara = MASCARA_CPF;  break;
+			case CNPJ: this.mascara = MASCARA_CNPJ; break;
+			default:   this.mascara = MASCARA_PIS;  break;
+		}
+	}
+	
+	/** Define o tamanho dos blocos lidos da entrada. Blocos maiores reduzem o custo de coordenação entre as threads,
+	 *  mas aumentam o consumo de memória, que é de aproximadamente <code>3 x tamanho x paralelismo</code>.
+	 *  @param tamanhoBloco - tamanho dos blocos, em bytes (padrão: 1 MB)
+	 *  @return Este validador. */
+	public BulkDocumentValidator setTamanhoBloco(final int tamanhoBloco) {
+		
+		if (tamanhoBloco < 64)
+			throw new IllegalArgumentException("Tamanho de bloco muito pequeno: " + tamanhoBloco);
+		
+		this.tamanhoBloco = tamanhoBloco;
+		return this;
+	}
+	
+	/** Define a quantidade de threads usadas na validação.
+	 *  @param paralelismo - quantidade de threads (padrão: quantidade de processadores)
+	 *  @return Este validador. */
+	public BulkDocumentValidator setParalelismo(final int paralelismo) {
+		
+		if (paralelismo < 1)
+			throw new IllegalArgumentException("Paralelismo inválido: " + paralelismo);
+		
+		this.paralelismo = paralelismo;
+		return this;
+	}
+	
+	/** Valida todos os documentos de um arquivo.
+	 *  @param entrada - arquivo de entrada
+	 *  @param saida - arquivo onde os documentos válidos são gravados com máscara (pode ser 'null')
+	 *  @param rejeitados - arquivo onde as linhas rejeitadas são gravadas (pode ser 'null')
+	 *  @return O resumo da validação.
+	 *  @throws IOException if any of the files could not be read or written. */
+	public Resumo valida(final File entrada, final File saida, final File rejeitados) throws IOException {
+		return valida(entrada.toPath(), (saida == null) ? null : saida.toPath(), (rejeitados == null) ? null : rejeitados.toPath());
+	}
+	
+	/** Valida todos os documentos de um arquivo.
+	 *  @param entrada - arquivo de entrada
+	 *  @param saida - arquivo onde os documentos válidos são gravados com máscara (pode ser 'null')
+	 *  @param rejeitados - arquivo onde as linhas rejeitadas são gravadas (pode ser 'null')
+	 *  @return O resumo da validação.
+	 *  @throws IOException if any of the files could not be read or written. */
+	public Resumo valida(final Path entrada, final Path saida, final Path rejeitados) throws IOException {
+		
+		try (InputStream  in  = Files.newInputStream(entrada);
+			 OutputStream out = (saida      == null) ? null : Files.newOutputStream(saida);
+			 OutputStream rej = (rejeitados == null) ? null : Files.newOutputStream(rejeitados)) {
+			
+			return valida(in, out, rej);
+		}
+	}
+	
+	/** Valida todos os documentos lidos de um stream. Os streams não são fechados por este método.
+	 *  @param entrada - stream de entrada
+	 *  @param saida - stream onde os documentos válidos são gravados com máscara (pode ser 'null')
+	 *  @param rejeitados - stream onde as linhas rejeitadas são gravadas (pode ser 'null')
+	 *  @return O resumo da validação.
+	 *  @throws IOException if any of the streams could not be read or written. */
+	public Resumo valida(final InputStream entrada, final OutputStream saida, final OutputStream rejeitados) throws IOException {
+		
+		final ExecutorService executor = Executors.newFixedThreadPool(paralelismo);
+		
+		// Blocos em processamento, na ordem de leitura. O limite garante o consumo de memória constante
+		final ArrayDeque<Future<Bloco>> pendentes = new ArrayDeque<Future<Bloco>>();
+		final int limitePendentes = paralelismo * 2;
+		
+		final Resumo resumo = new Resumo();
+		
+		try {
+			
+			byte[] buffer = new byte[tamanhoBloco];
+			int ocupado = 0;
+			boolean descartando = false;
+			
+			while (true) {
+				
+				final int lidos = entrada.read(buffer, ocupado, buffer.length - ocupado);
+				
+				if (lidos < 0)
+					break;
+				
+				// Restante de uma linha longa demais: os bytes lidos são descartados até a próxima quebra de linha
+				if (descartando) {
+					
+					final int fim = descarta(buffer, ocupado, ocupado + lidos);
+					
+					if (fim < 0)
+						continue;
+					
+					ocupado = fim;
+					descartando = false;
+				}
+				else
+					ocupado += lidos;
+				
+				if (ocupado < buffer.length)
+					continue;
+				
+				// Apenas linhas completas são processadas, o restante passa para o próximo bloco.
+				// Um '\r' no fim do bloco fica para o próximo, pois pode ser seguido de um '\n'
+				int fimLinhas = (buffer[ocupado - 1] == '\r') ? ocupado - 1 : ocupado;
+				
+				while ((fimLinhas > 0) && !quebra(buffer[fimLinhas - 1]))
+					fimLinhas--;
+				
+				if (fimLinhas == 0) {
+					
+					// Linha maior que o bloco: o buffer cresce até comportar uma linha de tamanho máximo
+					if (buffer.length < 2 * TAMANHO_MAXIMO_LINHA)
+						buffer = Arrays.copyOf(buffer, 2 * TAMANHO_MAXIMO_LINHA);
+					
+					// Linha longa demais: apenas o seu início é mantido (para ser rejeitado), o restante é descartado
+					else {
+						
+						final int fim = descarta(buffer, TAMANHO_MAXIMO_LINHA + 1, ocupado);
+						
+						descartando = (fim < 0);
+						ocupado = descartando ? TAMANHO_MAXIMO_LINHA + 1 : fim;
+					}
+					
+					continue;
+				}
+				
+				final byte[] proximo = new byte[Math.max(tamanhoBloco, ocupado - fimLinhas)];
+				System.arraycopy(buffer, fimLinhas, proximo, 0, ocupado - fimLinhas);
+				
+				submete(executor, pendentes, buffer, fimLinhas, saida != null, rejeitados != null);
+				
+				ocupado = ocupado - fimLinhas;
+				buffer  = proximo;
+				
+				while (pendentes.size() > limitePendentes)
+					grava(pendentes.poll(), resumo, saida, rejeitados);
+			}
+			
+			if (ocupado > 0)
+				submete(executor, pendentes, buffer, ocupado, saida != null, rejeitados != null);
+			
+			while (!pendentes.isEmpty())
+				grava(pendentes.poll(), resumo, saida, rejeitados);
+		}
+		finally {
+			
+			for (Future<Bloco> pendente: pendentes)
+				pendente.cancel(true);
+			
+			executor.shutdownNow();
+		}
+		
+		if (saida != null)
+			saida.flush();
+		
+		if (rejeitados != null)
+			rejeitados.flush();
+		
+		return resumo;
+	}
+	
+	/**************************** Internal Methods Section ***************************************/
+	
+	/** @return 'true' se 'simbolo' é uma quebra de linha ('\n' ou '\r'). */
+	private static boolean quebra(final byte simbolo) {
+		return (simbolo == '\n') || (simbolo == '\r');
+	}
+	
+	/** Descarta os bytes de buffer[inicio, fim) anteriores à primeira quebra de linha, movendo-a (e o que a segue) para 'inicio'.
+	 *  @return A nova ocupação do buffer, ou -1 se não há quebra de linha em buffer[inicio, fim). */
+	private static int descarta(final byte[] buffer, final int inicio, final int fim) {
+		
+		int quebra = inicio;
+		
+		while ((quebra < fim) && !quebra(buffer[quebra]))
+			quebra++;
+		
+		if (quebra == fim)
+			return -1;
+		
+		System.arraycopy(buffer, quebra, buffer, inicio, fim - quebra);
+		
+		return inicio + fim - quebra;
+	}
+	
+	/** Envia os primeiros 'tamanho' bytes de 'buffer' para validação. */
+	private void submete(final ExecutorService executor, final ArrayDeque<Future<Bloco>> pendentes, final byte[] buffer,
+						 final int tamanho, final boolean gravaSaida, final boolean gravaRejeitados) {
+		pendentes.add(executor.submit(() -> processa(buffer, tamanho, gravaSaida, gravaRejeitados)));
+	}
+	
+	/** Aguarda o processamento de um bloco, gravando os seus resultados e somando os seus contadores ao resumo. */
+	private static void grava(final Future<Bloco> pendente, final Resumo resumo, final OutputStream saida, final OutputStream rejeitados) throws IOException {
+		
+		final Bloco bloco;
+		
+		try {
+			bloco = pendente.get();
+		}
+		catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Validação interrompida", exception);
+		}
+		catch (ExecutionException exception) {
+			throw new IOException("Falha ao validar bloco", exception.getCause());
+		}
+		
+		if (saida != null)
+			bloco.saida.writeTo(saida);
+		
+		if (rejeitados != null)
+			bloco.rejeitados.writeTo(rejeitados);
+		
+		resumo.soma(bloco);
+	}
+	
+	/** Valida todas as linhas de buffer[0, tamanho). */
+	private Bloco processa(final byte[] buffer, final int tamanho, final boolean gravaSaida, final boolean gravaRejeitados) {
+		
+		final Bloco bloco = new Bloco(gravaSaida ? tamanho + (tamanho >> 1) : 0, gravaRejeitados ? 1024 : 0);
+		
+		int inicio = 0;
+		
+		while (inicio < tamanho) {
+			
+			int fim = inicio;
+			
+			while ((fim < tamanho) && !quebra(buffer[fim]))
+				fim++;
+			
+			// '\r\n' é uma única quebra de linha
+			final int proximo = ((fim + 1 < tamanho) && (buffer[fim] == '\r') && (buffer[fim + 1] == '\n')) ? fim + 2 : fim + 1;
+			final boolean longa = (fim - inicio > TAMANHO_MAXIMO_LINHA);
+			
+			// Aparando espaços e tabulações
+			while ((inicio < fim) && ((buffer[inicio] & 0xFF) <= ' '))
+				inicio++;
+			
+			while ((fim > inicio) && ((buffer[fim - 1] & 0xFF) <= ' '))
+				fim--;
+			
+			if (fim == inicio)
+				bloco.emBranco++;
+			
+			else {
+				
+				final ValidationResult resultado = longa ? ValidationResult.BAD_LENGTH : documento.valida(buffer, inicio, fim - inicio);
+				
+				bloco.contadores[resultado.ordinal()]++;
+				
+				if (resultado.isValid()) {
+					
+					if (gravaSaida)
+						formata(buffer, inicio, fim, bloco.saida);
+				}
+				else if (gravaRejeitados) {
+					
+					// Linhas longas demais são gravadas truncadas, estejam ou não inteiras no bloco
+					bloco.rejeitados.write(buffer, inicio, longa ? Math.min(fim - inicio, TAMANHO_MAXIMO_LINHA) : fim - inicio);
+					bloco.rejeitados.write(';');
+					
+					final String motivo = resultado.name();
+					
+					for (int i=0; i<motivo.length(); i++)
+						bloco.rejeitados.write(motivo.charAt(i));
+					
+					bloco.rejeitados.write('\n');
+				}
+			}
+			
+			inicio = proximo;
+		}
+		
+		return bloco;
+	}
+	
+	/** Grava os caracteres significativos de buffer[inicio, fim) com a máscara deste validador em 'saida' (letras em maiúsculo). */
+	private void formata(final byte[] buffer, int inicio, final int fim, final ByteArrayOutputStream saida) {
+		
+		for (byte simbolo: mascara) {
+			
+			if (simbolo == '#') {
+				
+				while (documento.valor(buffer[inicio] & 0xFF) < 0)
+					inicio++;
+				
+				final int c = buffer[inicio++];
+				
+				saida.write(((c >= 'a') && (c <= 'z')) ? c - 32 : c);
+			}
+			else
+				saida.write(simbolo);
+		}
+		
+		saida.write('\n');
+	}
+	
+	/** Resultado do processamento de um bloco. */
+	private static class Bloco {
+		
+		private final ByteArrayOutputStream saida, rejeitados;
+		private final long[] contadores = new long[ValidationResult.values().length];
+		private long emBranco;
+		
+		private Bloco(final int tamanhoSaida, final int tamanhoRejeitados) {
+			this.saida      = new ByteArrayOutputStream(tamanhoSaida);
+			this.rejeitados = new ByteArrayOutputStream(tamanhoRejeitados);
+		}
+	
+	}
+	
+	/** Resumo de uma validação em lote, com a quantidade de documentos por resultado.
+	 *  @author Felipe André - felipeandre.eng@gmail.com
+	 *  @version 1.0, 18/OCT/2026 */
+	public static class Resumo {
+		
+		private final long[] contadores = new long[ValidationResult.values().length];
+		private long emBranco;
+		
+		private Resumo() { }
+		
+		/** Soma os contadores de um bloco a este resumo. */
+		private void soma(final Bloco bloco) {
+			
+			for (int i=0; i<contadores.length; i++)
+				contadores[i] += bloco.contadores[i];
+			
+			emBranco += bloco.emBranco;
+		}
+		
+		/** @return A quantidade de documentos lidos (linhas em branco não são contadas). */
+		public long getTotal() {
+			
+			long total = 0;
+			
+			for (long contador: contadores)
+				total += contador;
+			
+			return total;
+		}
+		
+		/** @param resultado - resultado da validação
+		 *  @return A quantidade de documentos que obtiveram o <code>resultado</code> informado. */
+		public long getQuantidade(final ValidationResult resultado) {
+			return contadores[resultado.ordinal()];
+		}
+		
+		/** @return A quantidade de documentos válidos. */
+		public long getValidos() {
+			return getQuantidade(ValidationResult.VALID);
+		}
+		
+		/** @return A quantidade de documentos rejeitados, por qualquer motivo. */
+		public long getRejeitados() {
+			return getTotal() - getValidos();
+		}
+		
+		/** @return A quantidade de linhas em branco ignoradas. */
+		public long getEmBranco() {
+			return this.emBranco;
+		}
+		
+		/** @return Um texto com todos os contadores deste resumo, um por linha. */
+		@Override
+		public String toString() {
+			
+			final StringBuilder sb = new StringBuilder(128);
+			
+			sb.append("Total: ").append(getTotal()).append('\n');
+			
+			for (ValidationResult resultado: ValidationResult.values())
+				sb.append(resultado.name()).append(": ").append(getQuantidade(resultado)).append('\n');
+			
+			sb.append("Em branco: ").append(emBranco);
+			
+			return sb.toString();
+		}
+	
+	}
+
+}
@@ -0,0 +1,351 @@
+package com.phill.libs.br;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/** Implementa um índice de faixas de CEP, que associa cada CEP à sua UF (e, consequentemente, à sua região).<br>
+ *  As faixas ficam em vetores primitivos ordenados (início, fim e UF), então a busca é binária, O(log n), e não aloca
+ *  objetos. O índice pode ser lido de uma tabela de faixas em texto ({@link #le(Path)}), com uma faixa por linha no
+ *  formato <code>inicio;fim;UF</code> (linhas iniciadas por '#' são ignoradas), ou mapeado em memória a partir do
+ *  formato binário gravado por {@link #salva(Path)} ({@link #carrega(Path)}), sem copiar as faixas na inicialização.<br>
+ *  O índice padrão ({@link #getPadrao()}) contém as faixas de CEP por UF dos Correios.<br>
+ *  Instâncias desta classe são imutáveis e podem ser compartilhadas entre threads.
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.1, 18/OCT/2026
+ *  @see UF */
+public final class CEPIndex {
+	
+	// Assinatura do arquivo binário ("CEPINDX1", little-endian) e tamanho do seu cabeçalho
+	private static final long ASSINATURA = 0x3158444E49504543L;
+	private static final int TAMANHO_CABECALHO = 16;
+	
+	// Tabela de faixas do índice padrão
+	private static final String TABELA_PADRAO = "/com/phill/libs/br/cep_faixas.csv";
+	
+	private static final UF[] UFS = UF.values();
+	
+	// Faixas ordenadas: [inicios[i], fins[i]] pertence à UF de ordinal ufs[i]
+	private final IntBuffer inicios, fins;
+	private final ByteBuffer ufs;
+	private final int tamanho;
+	
+	/** Índice padrão, carregado apenas no primeiro uso. */
+	private static class Padrao {
+		
+		private static final CEPIndex INDICE = carregaPadrao();
+	
+	}
+	
+	/** Construtor interno, as faixas já devem estar ordenadas e sem sobreposição. */
+	private CEPIndex(final IntBuffer inicios, final IntBuffer fins, final ByteBuffer ufs, final int tamanho) {
+		this.inicios = inicios;
+		this.fins    = fins;
+		this.ufs     = ufs;
+		this.tamanho = tamanho;
+	}
+	
+	/** @return O índice com as faixas de CEP por UF dos Correios. */
+	public static CEPIndex getPadrao() {
+		return Padrao.INDICE;
+	}
+	
+	/** Lê uma tabela de faixas em texto.
+	 *  @param arquivo - tabela de faixas, em UTF-8, com uma faixa por linha no formato <code>inicio;fim;UF</code>
+	 *  (os CEPs podem ter máscara e linhas iniciadas por '#' são ignoradas)
+	 *  @return Um novo índice.
+	 *  @throws IOException if the file could not be read, or if it has an invalid line or overlapping ranges. */
+	public static CEPIndex le(final Path arquivo) throws IOException {
+		
+		try (Reader leitor = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+			return le(leitor);
+		}
+	}
+	
+	/** Lê uma tabela de faixas em texto. O reader não é fechado por este método.
+	 *  @param leitor - tabela de faixas, com uma faixa por linha no formato <code>inicio;fim;UF</code>
+	 *  (os CEPs podem ter máscara e linhas iniciadas por '#' são ignoradas)
+	 *  @return Um novo índice.
+	 *  @throws IOException if the table could not be read, or if it has an invalid line or overlapping ranges. */
+	public static CEPIndex le(final Reader leitor) throws IOException {
+		
+		final BufferedReader linhas = (leitor instanceof BufferedReader) ? (BufferedReader) leitor : new BufferedReader(leitor);
+		
+		int[] inicios = new int[64], fins = new int[64];
+		byte[] ufs = new byte[64];
+		int tamanho = 0, numero = 0;
+		String linha;
+		
+		while ((linha = linhas.readLine()) != null) {
+			
+			numero++;
+			linha = linha.trim();
+			
+			if (linha.isEmpty() || (linha.charAt(0) == '#'))
+				continue;
+			
+			final String[] campos = linha.split(";");
+			
+			final int inicio = (campos.length == 3) ? cep(campos[0]) : -1;
+			final int fim    = (campos.length == 3) ? cep(campos[1]) : -1;
+			final UF uf      = (campos.length == 3) ? uf(campos[2].trim()) : null;
+			
+			if ((inicio < 0) || (fim < inicio) || (uf == null))
+				throw new IOException("Faixa de CEP inválida na linha " + numero + ": " + linha);
+			
+			if (tamanho == inicios.length) {
+				inicios = Arrays.copyOf(inicios, tamanho * 2);
+				fins    = Arrays.copyOf(fins   , tamanho * 2);
+				ufs     = Arrays.copyOf(ufs    , tamanho * 2);
+			}
+			
+			inicios[tamanho] = inicio;
+			fins   [tamanho] = fim;
+			ufs    [tamanho] = (byte) uf.ordinal();
+			tamanho++;
+		}
+		
+		return ordena(inicios, fins, ufs, tamanho);
+	}
+	
+	/** Mapeia em memória (somente leitura) um índice gravado por {@link #salva(Path)}. As faixas não são copiadas,
+	 *  apenas conferidas em uma única passada, com as mesmas regras de {@link #le(Reader)} (UFs conhecidas e faixas
+	 *  ordenadas, sem sobreposição).
+	 *  @param arquivo - arquivo de índice
+	 *  @return O índice mapeado.
+	 *  @throws IOException if the file could not be read or if it is not a valid index file. */
+	public static CEPIndex carrega(final Path arquivo) throws IOException {
+		
+		try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+			
+			final long tamanhoArquivo = canal.size();
+			
+			if ((tamanhoArquivo < TAMANHO_CABECALHO) || (tamanhoArquivo > Integer.MAX_VALUE))
+				throw new IOException("Arquivo inválido: " + arquivo);
+			
+			// O mapeamento continua válido depois que o canal é fechado
+			final MappedByteBuffer mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, tamanhoArquivo);
+			mapa.order(ByteOrder.LITTLE_ENDIAN);
+			
+			final int tamanho = mapa.getInt(8);
+			
+			if ((mapa.getLong(0) != ASSINATURA) || (tamanho < 0) || (tamanhoArquivo != TAMANHO_CABECALHO + tamanho * 9L))
+				throw new IOException("Arquivo inválido: " + arquivo);
+			
+			final int bytes = tamanho * Integer.BYTES;
+			
+			final IntBuffer  inicios = fatia(mapa, TAMANHO_CABECALHO, bytes).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+			final IntBuffer  fins    = fatia(mapa, TAMANHO_CABECALHO + bytes, bytes).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+			final ByteBuffer ufs     = fatia(mapa, TAMANHO_CABECALHO + 2 * bytes, tamanho);
+			
+			// A busca binária depende de faixas ordenadas e sem sobreposição, e 'getUF' de ordinais válidos
+			for (int i=0; i<tamanho; i++) {
+				
+				final int inicio = inicios.get(i), fim = fins.get(i), uf = ufs.get(i);
+				
+				if ((inicio < 0) || (fim < inicio) || (uf < 0) || (uf >= UFS.length) || ((i > 0) && (inicio <= fins.get(i-1))))
+					throw new IOException("Arquivo inválido: " + arquivo + " (faixa " + i + ")");
+			}
+			
+			return new CEPIndex(inicios, fins, ufs, tamanho);
+		}
+	}
+	
+	/** Grava este índice em formato binário, para ser mapeado em memória por {@link #carrega(Path)}.
+	 *  @param arquivo - arquivo de destino (sobrescrito se já existir)
+	 *  @throws IOException if the file could not be written. */
+	public void salva(final Path arquivo) throws IOException {
+		
+		final ByteBuffer buffer = ByteBuffer.allocate(TAMANHO_CABECALHO + tamanho * 9).order(ByteOrder.LITTLE_ENDIAN);
+		
+		buffer.putLong(ASSINATURA).putInt(tamanho).putInt(0);
+		
+		for (int i=0; i<tamanho; i++)
+			buffer.putInt(inicios.get(i));
+		
+		for (int i=0; i<tamanho; i++)
+			buffer.putInt(fins.get(i));
+		
+		for (int i=0; i<tamanho; i++)
+			buffer.put(ufs.get(i));
+		
+		buffer.flip();
+		
+		try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+												  StandardOpenOption.WRITE)) {
+			
+			while (buffer.hasRemaining())
+				canal.write(buffer);
+		}
+	}
+	
+	/** @return A quantidade de faixas deste índice. */
+	public int size() {
+		return tamanho;
+	}
+	
+	/** Busca a faixa de um CEP.
+	 *  @param cep - CEP como número (ex.: 69077000)
+	 *  @return A posição da faixa que contém o CEP (de 0 a {@link #size()} - 1), ou -1 se nenhuma faixa o contém. */
+	public int busca(final int cep) {
+		
+		// Busca binária pela última faixa que começa antes do CEP
+		int baixo = 0, alto = tamanho - 1;
+		
+		while (baixo <= alto) {
+			
+			final int meio = (baixo + alto) >>> 1;
+			
+			if (inicios.get(meio) <= cep)
+				baixo = meio + 1;
+			else
+				alto = meio - 1;
+		}
+		
+		return (alto >= 0) && (cep <= fins.get(alto)) ? alto : -1;
+	}
+	
+	/** @param cep - CEP como número (ex.: 69077000)
+	 *  @return A UF do CEP, ou 'null' se nenhuma faixa o contém. */
+	public UF getUF(final int cep) {
+		
+		final int faixa = busca(cep);
+		
+		return (faixa < 0) ? null : UFS[ufs.get(faixa)];
+	}
+	
+	/** @param cep - CEP com ou sem máscara, aqui apenas os números são considerados
+	 *  @return A UF do CEP, ou 'null' se ele não tiver 8 dígitos ou se nenhuma faixa o contém. */
+	public UF getUF(final CharSequence cep) {
+		
+		final int numero = cep(cep);
+		
+		return (numero < 0) ? null : getUF(numero);
+	}
+	
+	/** @param cep - CEP como número (ex.: 69077000)
+	 *  @return A região do CEP, ou 'null' se nenhuma faixa o contém. */
+	public UF.Regiao getRegiao(final int cep) {
+		
+		final UF uf = getUF(cep);
+		
+		return (uf == null) ? null : uf.getRegiao();
+	}
+	
+	/** @param cep - CEP com ou sem máscara, aqui apenas os números são considerados
+	 *  @return A região do CEP, ou 'null' se ele não tiver 8 dígitos ou se nenhuma faixa o contém. */
+	public UF.Regiao getRegiao(final CharSequence cep) {
+		
+		final UF uf = getUF(cep);
+		
+		return (uf == null) ? null : uf.getRegiao();
+	}
+	
+	/**************************** Internal Methods Section ***************************************/
+	
+	/** Converte um CEP com ou sem máscara para número, sem alocar objetos.
+	 *  @return O CEP como número, ou -1 se ele for nulo ou não tiver 8 dígitos. */
+	private static int cep(final CharSequence cep) {
+		
+		if (cep == null)
+			return -1;
+		
+		int numero = 0, digitos = 0;
+		
+		for (int i=0; i<cep.length(); i++) {
+			
+			final char c = cep.charAt(i);
+			
+			if ((c < '0') || (c > '9'))
+				continue;
+			
+			if (++digitos > 8)
+				return -1;
+			
+			numero = numero * 10 + (c - '0');
+		}
+		
+		return (digitos == 8) ? numero : -1;
+	}
+	
+	/** @return A UF com a sigla informada, ou 'null' se ela não existir. */
+	private static UF uf(final String sigla) {
+		
+		for (UF uf: UFS)
+			if (uf.name().equalsIgnoreCase(sigla))
+				return uf;
+		
+		return null;
+	}
+	
+	/** @return Uma visão de 'tamanho' bytes do 'buffer' a partir de 'inicio', sem alterar a posição do 'buffer'
+	 *  (equivalente ao ByteBuffer.slice(int, int), que não existe no Java 8). */
+	private static ByteBuffer fatia(final ByteBuffer buffer, final int inicio, final int tamanho) {
+		
+		final ByteBuffer copia = buffer.duplicate();
+		
+		copia.position(inicio);
+		copia.limit(inicio + tamanho);
+		
+		return copia.slice();
+	}
+	
+	/** Ordena as faixas pelo início e verifica se não há sobreposição.
+	 *  @throws IOException if two ranges overlap. */
+	private static CEPIndex ordena(final int[] inicios, final int[] fins, final byte[] ufs, final int tamanho) throws IOException {
+		
+		// Ordenação indireta: início nos 32 bits mais significativos, posição original nos menos significativos
+		final long[] ordem = new long[tamanho];
+		
+		for (int i=0; i<tamanho; i++)
+			ordem[i] = ((long) inicios[i] << 32) | i;
+		
+		Arrays.sort(ordem);
+		
+		final int[] inicioOrdenado = new int[tamanho], fimOrdenado = new int[tamanho];
+		final byte[] ufOrdenada = new byte[tamanho];
+		
+		for (int i=0; i<tamanho; i++) {
+			
+			final int original = (int) ordem[i];
+			
+			inicioOrdenado[i] = inicios[original];
+			fimOrdenado   [i] = fins   [original];
+			ufOrdenada    [i] = ufs    [original];
+			
+			if ((i > 0) && (inicioOrdenado[i] <= fimOrdenado[i-1]))
+				throw new IOException("Faixas de CEP sobrepostas: " + inicioOrdenado[i] + " e " + fimOrdenado[i-1]);
+		}
+		
+		return new CEPIndex(IntBuffer.wrap(inicioOrdenado), IntBuffer.wrap(fimOrdenado), ByteBuffer.wrap(ufOrdenada), tamanho);
+	}
+	
+	/** Lê a tabela de faixas do índice padrão, embutida na biblioteca. */
+	private static CEPIndex carregaPadrao() {
+		
+		try (InputStream stream = CEPIndex.class.getResourceAsStream(TABELA_PADRAO)) {
+			
+			if (stream == null)
+				throw new IOException("Tabela de faixas não encontrada: " + TABELA_PADRAO);
+			
+			return le(new InputStreamReader(stream, StandardCharsets.UTF_8));
+		}
+		catch (IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+}
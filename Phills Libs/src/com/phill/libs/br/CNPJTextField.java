@@ -1,18 +1,18 @@
 package com.phill.libs.br;
 
-import java.awt.Color;
 import javax.swing.JFormattedTextField;
 
 import com.phill.libs.StringUtils;
 import com.phill.libs.ui.GraphicsHelper;
 
-/** Cria um campo de texto formatado com a máscara de CNPJ e
- *  faz validação de dados inseridos, caso o CNPJ digitado
+/** Cria um campo de texto formatado com a máscara de CNPJ (que
+ *  aceita letras nas 12 primeiras posições, para o CNPJ alfa-
+ *  numérico) e faz validação de dados inseridos, caso o CNPJ digitado
  *  esteja correto, o campo muda de cor para 'verde', caso
  *  contrário, muda para 'vermelho'. Se o CNPJ digitado esti-
  *  ver incompleto, o campo permanece em 'branco'.
  *  @author Felipe André - felipeandre.eng@gmail.com
- *  @version 1.1, 25/APR/2021
+ *  @version 1.3, 18/OCT/2026
  *  @see JFormattedTextField  */
 public class CNPJTextField extends BRTextField {
 	
@@ -20,27 +20,14 @@ public class CNPJTextField extends BRTextField {
 	private static final long serialVersionUID = 1L;
 	
 	/** Construtor da classe já aplicando a máscara
-	 *  de CPF e adicionando algoritmo de validação. */
+	 *  de CNPJ e adicionando algoritmo de validação. */
 	public CNPJTextField() {
-		super(GraphicsHelper.getMask("##.###.###./####-##"));
+		super(GraphicsHelper.getMask("AA.AAA.AAA/AAAA-##"));
 	}
 	
 	/** Realiza a validação de dados na interface gráfica */
 	protected void parse() {
-
-		final String cnpj = StringUtils.extractNumbers(getText());
-		
-		if (cnpj.length() == 14) {
-			
-			if (CNPJParser.parse(cnpj))
-				setBackground(gr_lt);
-			else
-				setBackground(rd_lt);
-			
-		}
-		else
-			setBackground(Color.WHITE);
-		
+		pinta(DocumentValidator.cnpj(getText()));
 	}
 	
 	/** Verifica se o número de CNPJ deste campo é válido.
@@ -50,9 +37,9 @@ public class CNPJTextField extends BRTextField {
 		return CNPJParser.parse(getText());
 	}
 	
-	/** Retorna o texto preenchido com ou sem máscara */
+	/** Retorna o texto preenchido com ou sem máscara (letras sempre em maiúsculo) */
 	public String getCNPJ(final boolean apenasNumeros) {
-		return (apenasNumeros) ? StringUtils.extractNumbers(getText()) : getText();
+		return (apenasNumeros) ? StringUtils.extractAlphaNumeric(getText(), "", true).toUpperCase() : getText().toUpperCase();
 	}
 
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package com.phill.libs.br;
 
-import java.awt.Color;
 import javax.swing.JFormattedTextField;
 
 import com.phill.libs.StringUtils;
@@ -12,7 +11,7 @@ import com.phill.libs.ui.GraphicsHelper;
  *  contrário, muda para 'vermelho'. Se o CPF digitado esti
  *  ver incompleto, o campo permanece em 'branco'.
  *  @author Felipe André - felipeandre.eng@gmail.com
- *  @version 4.6, 24/APR/2021
+ *  @version 4.7, 18/OCT/2026
  *  @see JFormattedTextField  */
 public class CPFTextField extends BRTextField {
 	
@@ -27,20 +26,7 @@ public class CPFTextField extends BRTextField {
 	
 	/** Realiza a validação de dados na interface gráfica */
 	protected void parse() {
-
-		final String cpf = StringUtils.extractNumbers(getText());
-		
-		if (cpf.length() == 11) {
-			
-			if (CPFParser.parse(cpf))
-				setBackground(gr_lt);
-			else
-				setBackground(rd_lt);
-			
-		}
-		else
-			setBackground(Color.WHITE);
-		
+		pinta(DocumentValidator.cpf(getText()));
 	}
 	
 	/** Retorna o texto preenchido com ou sem máscara */
@@ -0,0 +1,146 @@
+package com.phill.libs.br;
+
+import com.phill.libs.br.DocumentValidator.Documento;
+
+/** Implementa a codificação de CPFs e CNPJs válidos em um único <code>long</code>, para que grandes volumes de
+ *  documentos possam ser guardados em estruturas primitivas, como o {@link LongHashSet}.<br>
+ *  Codificação:<br>
+ *  1. CPF: o próprio número de 11 dígitos, de 0 a 99.999.999.999;<br>
+ *  2. CNPJ (numérico ou alfanumérico): os 12 primeiros caracteres lidos em base 36 ('0'-'9' = 0-9, 'A'-'Z' = 10-35),
+ *  com o sinal invertido e menos 1, ou seja, sempre negativo. Os dígitos verificadores não são guardados, pois são
+ *  recalculados na decodificação.<br>
+ *  Assim, CPFs e CNPJs nunca colidem e {@link #INVALIDO} ({@link Long#MIN_VALUE}) nunca é um código válido.
+ *  Nenhum método de codificação aloca objetos.
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026
+ *  @see DocumentValidator */
+public final class DocumentCodec {
+	
+	/** Código retornado para documentos inválidos. */
+	public static final long INVALIDO = Long.MIN_VALUE;
+	
+	// Maior CPF possível (exclusivo)
+	private static final long LIMITE_CPF = 100_000_000_000L;
+	
+	// Quantidade de raízes de CNPJ possíveis: 36^12
+	private static final long LIMITE_CNPJ = 4_738_381_338_321_616_896L;
+	
+	// Quantidade de caracteres de CNPJ codificados (os verificadores são recalculados)
+	private static final int TAMANHO_RAIZ_CNPJ = 12;
+	
+	/** Construtor privado, esta é uma classe utilitária. */
+	private DocumentCodec() { }
+	
+	/** Codifica um CPF.
+	 *  @param cpf - CPF com ou sem máscara
+	 *  @return O código do CPF, ou {@link #INVALIDO} se ele não for válido. */
+	public static long encodeCPF(final CharSequence cpf) {
+		
+		if (!DocumentValidator.cpf(cpf).isValid())
+			return INVALIDO;
+		
+		long codigo = 0;
+		
+		for (int i=0; i<cpf.length(); i++) {
+			
+			final int digito = Documento.CPF.valor(cpf.charAt(i));
+			
+			if (digito >= 0)
+				codigo = codigo * 10 + digito;
+		}
+		
+		return codigo;
+	}
+	
+	/** Codifica um CNPJ, numérico ou alfanumérico.
+	 *  @param cnpj - CNPJ com ou sem máscara
+	 *  @return O código do CNPJ, ou {@link #INVALIDO} se ele não for válido. */
+	public static long encodeCNPJ(final CharSequence cnpj) {
+		
+		if (!DocumentValidator.cnpj(cnpj).isValid())
+			return INVALIDO;
+		
+		long codigo = 0;
+		
+		for (int i=0, lidos=0; lidos<TAMANHO_RAIZ_CNPJ; i++) {
+			
+			final char c = cnpj.charAt(i);
+			
+			if (Documento.CNPJ.valor(c) < 0)
+				continue;
+			
+			codigo = codigo * 36 + Character.digit(c, 36);
+			lidos++;
+		}
+		
+		return -codigo - 1;
+	}
+	
+	/** Codifica um CPF ou um CNPJ, de acordo com a quantidade de caracteres significativos (11 ou 14).
+	 *  @param documento - CPF ou CNPJ com ou sem máscara
+	 *  @return O código do documento, ou {@link #INVALIDO} se ele não for válido. */
+	public static long encode(final CharSequence documento) {
+		
+		if (documento == null)
+			return INVALIDO;
+		
+		int significativos = 0;
+		
+		for (int i=0; i<documento.length(); i++)
+			if (Documento.CNPJ.valor(documento.charAt(i)) >= 0)
+				significativos++;
+		
+		if (significativos == Documento.CPF.getTamanho())
+			return encodeCPF(documento);
+		
+		if (significativos == Documento.CNPJ.getTamanho())
+			return encodeCNPJ(documento);
+		
+		return INVALIDO;
+	}
+	
+	/** @param codigo - código gerado por esta classe
+	 *  @return 'true' se o <code>codigo</code> representa um CPF. */
+	public static boolean isCPF(final long codigo) {
+		return (codigo >= 0) && (codigo < LIMITE_CPF);
+	}
+	
+	/** @param codigo - código gerado por esta classe
+	 *  @return 'true' se o <code>codigo</code> representa um CNPJ. */
+	public static boolean isCNPJ(final long codigo) {
+		return (codigo < 0) && (-(codigo + 1) < LIMITE_CNPJ);
+	}
+	
+	/** Decodifica um CPF ou CNPJ.
+	 *  @param codigo - código gerado por esta classe
+	 *  @return O documento sem máscara (letras em maiúsculo), ou 'null' se o <code>codigo</code> não for válido. */
+	public static String decode(final long codigo) {
+		
+		if (isCPF(codigo)) {
+			
+			final char[] cpf = new char[Documento.CPF.getTamanho()];
+			long resto = codigo;
+			
+			for (int i=cpf.length-1; i>=0; i--, resto /= 10)
+				cpf[i] = (char) ('0' + (resto % 10));
+			
+			return new String(cpf);
+		}
+		
+		if (isCNPJ(codigo)) {
+			
+			final char[] cnpj = new char[Documento.CNPJ.getTamanho()];
+			long resto = -(codigo + 1);
+			
+			for (int i=TAMANHO_RAIZ_CNPJ-1; i>=0; i--, resto /= 36)
+				cnpj[i] = Character.toUpperCase(Character.forDigit((int) (resto % 36), 36));
+			
+			Documento.CNPJ.completaVerificadores(cnpj);
+			
+			return new String(cnpj);
+		}
+		
+		return null;
+	}
+
+}
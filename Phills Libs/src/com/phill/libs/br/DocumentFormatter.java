@@ -0,0 +1,261 @@
+package com.phill.libs.br;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import com.phill.libs.CharClassFilter;
+
+/** Implementa a aplicação das máscaras de CPF, CNPJ, PIS, CEP e telefone sem {@link String#format(String, Object...)}
+ *  e sem <code>substring</code>: os caracteres são copiados diretamente para um <code>char[]</code>, {@link StringBuilder}
+ *  ou {@link Appendable}, seguindo um layout fixo ({@link Mascara}).<br>
+ *  Os métodos estáticos produzem exatamente o mesmo resultado dos métodos de formatação já existentes
+ *  (ex.: {@link #cpf(String)} e {@link CPFParser#format(String)}) e podem ser aplicados em lote, em paralelo,
+ *  com {@link #formata(String[], UnaryOperator)}.<br>
+ *  Quick example:<br><br>
+ *  <code>String[] formatados = DocumentFormatter.formata(cpfs, DocumentFormatter::cpf);</code>
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026 */
+public final class DocumentFormatter {
+	
+	/** Layouts fixos das máscaras, onde cada '#' recebe um caractere do valor informado, na ordem. */
+	public enum Mascara {
+		
+		CPF("###.###.###-##"),
+		CNPJ("##.###.###/####-##"),
+		PIS("###.#####.##-#"),
+		CEP("#####-###"),
+		TELEFONE("(##) ####-####"),
+		CELULAR("(##) #####-####");
+		
+		private final char[] layout;
+		private final int tamanho;
+		
+		Mascara(final String layout) {
+			
+			this.layout = layout.toCharArray();
+			
+			int tamanho = 0;
+			
+			for (char c: this.layout)
+				if (c == '#')
+					tamanho++;
+			
+			this.tamanho = tamanho;
+		}
+		
+		/** @return A quantidade de caracteres do valor sem máscara. */
+		public int getTamanho() {
+			return tamanho;
+		}
+		
+		/** @return A quantidade de caracteres do valor com máscara. */
+		public int getTamanhoFormatado() {
+			return layout.length;
+		}
+		
+		/** Aplica esta máscara a um valor.
+		 *  @param valor - valor sem máscara, com exatamente {@link #getTamanho()} caracteres
+		 *  @return O valor com máscara, ou 'null' se o valor não tiver o tamanho esperado. */
+		public String formata(final CharSequence valor) {
+			
+			if ((valor == null) || (valor.length() != tamanho))
+				return null;
+			
+			final char[] destino = new char[layout.length];
+			
+			formata(valor, destino, 0);
+			
+			return new String(destino);
+		}
+		
+		/** Aplica esta máscara a um valor, escrevendo o resultado em <code>destino[offset...]</code>.
+		 *  @param valor - valor sem máscara, com exatamente {@link #getTamanho()} caracteres
+		 *  @param destino - vetor de destino, com pelo menos {@link #getTamanhoFormatado()} posições a partir de <code>offset</code>
+		 *  @param offset - posição inicial no vetor de destino
+		 *  @return A quantidade de caracteres escritos, ou -1 se o valor não tiver o tamanho esperado (nada é escrito). */
+		public int formata(final CharSequence valor, final char[] destino, final int offset) {
+			
+			if ((valor == null) || (valor.length() != tamanho))
+				return -1;
+			
+			for (int i=0, j=0; i<layout.length; i++)
+				destino[offset + i] = (layout[i] == '#') ? valor.charAt(j++) : layout[i];
+			
+			return layout.length;
+		}
+		
+		/** Aplica esta máscara a um valor, anexando o resultado ao <code>sb</code> informado.
+		 *  @param valor - valor sem máscara, com exatamente {@link #getTamanho()} caracteres
+		 *  @param sb - buffer de saída, pode ser reaproveitado entre chamadas
+		 *  @return 'true' se o valor foi formatado (e anexado ao <code>sb</code>) ou 'false' se ele não tiver o tamanho esperado. */
+		public boolean formata(final CharSequence valor, final StringBuilder sb) {
+			
+			if ((valor == null) || (valor.length() != tamanho))
+				return false;
+			
+			for (int i=0, j=0; i<layout.length; i++)
+				sb.append((layout[i] == '#') ? valor.charAt(j++) : layout[i]);
+			
+			return true;
+		}
+		
+		/** Aplica esta máscara a um valor, escrevendo o resultado em <code>saida</code>.
+		 *  @param valor - valor sem máscara, com exatamente {@link #getTamanho()} caracteres
+		 *  @param saida - destino do valor com máscara (ex.: um {@link java.io.Writer} de relatório)
+		 *  @return 'true' se o valor foi formatado (e escrito em <code>saida</code>) ou 'false' se ele não tiver o tamanho esperado.
+		 *  @throws IOException if the output could not be written. */
+		public boolean formata(final CharSequence valor, final Appendable saida) throws IOException {
+			
+			if ((valor == null) || (valor.length() != tamanho))
+				return false;
+			
+			for (int i=0, j=0; i<layout.length; i++)
+				saida.append((layout[i] == '#') ? valor.charAt(j++) : layout[i]);
+			
+			return true;
+		}
+	
+	}
+	
+	/** Construtor privado, esta é uma classe utilitária. */
+	private DocumentFormatter() { }
+	
+	/** Aplica a máscara de CPF, com o mesmo resultado de {@link CPFParser#format(String)}.
+	 *  @param cpf - CPF contendo apenas os 11 dígitos
+	 *  @return O CPF com máscara, ou a string original se ela não tiver 11 caracteres. */
+	public static String cpf(final String cpf) {
+		return (cpf == null) || (cpf.length() != 11) ? cpf : Mascara.CPF.formata(cpf);
+	}
+	
+	/** Aplica a máscara de PIS, com o mesmo resultado de {@link PISParser#format(String)}.
+	 *  @param pis - PIS contendo apenas os 11 dígitos
+	 *  @return O PIS com máscara, ou a string original se ela não tiver 11 caracteres. */
+	public static String pis(final String pis) {
+		return (pis == null) || (pis.length() != 11) ? pis : Mascara.PIS.formata(pis);
+	}
+	
+	/** Aplica a máscara de CNPJ, numérico ou alfanumérico, com o mesmo resultado de {@link CNPJParser#format(String)}.
+	 *  @param cnpj - CNPJ com ou sem máscara, aqui apenas as letras e os números são considerados
+	 *  @return O CNPJ com máscara (letras em maiúsculo), ou a string original se ela não tiver 14 letras e números. */
+	public static String cnpj(final String cnpj) {
+		
+		final char[] valor = new char[14];
+		
+		if (extrai(cnpj, CharClassFilter.ALPHANUMERIC, valor) != valor.length)
+			return cnpj;
+		
+		for (int i=0; i<valor.length; i++)
+			if ((valor[i] >= 'a') && (valor[i] <= 'z'))
+				valor[i] -= 'a' - 'A';
+		
+		return mascara(Mascara.CNPJ, valor);
+	}
+	
+	/** Aplica a máscara de CNPJ considerando apenas os dígitos, com o mesmo resultado de
+	 *  {@link com.phill.libs.StringUtils.BR#formataCNPJ(String)}.
+	 *  @param cnpj - CNPJ com ou sem máscara, aqui apenas os números são considerados
+	 *  @return O CNPJ com máscara, ou apenas os seus dígitos se eles não forem 14. */
+	public static String cnpjNumerico(final String cnpj) {
+		
+		final char[] valor = new char[14];
+		
+		if (extrai(cnpj, CharClassFilter.DIGITS, valor) != valor.length)
+			return CharClassFilter.DIGITS.filter(cnpj);
+		
+		return mascara(Mascara.CNPJ, valor);
+	}
+	
+	/** Aplica a máscara de CEP, com o mesmo resultado de {@link com.phill.libs.StringUtils.BR#formataCEP(String)}.
+	 *  @param cep - CEP com ou sem máscara, aqui apenas os números são considerados
+	 *  @return O CEP com máscara, ou 'null' se ele não tiver 8 dígitos. */
+	public static String cep(final String cep) {
+		
+		final char[] valor = new char[8];
+		
+		if (extrai(cep, CharClassFilter.DIGITS, valor) != valor.length)
+			return null;
+		
+		return mascara(Mascara.CEP, valor);
+	}
+	
+	/** Aplica a máscara de telefone fixo (10 caracteres) ou de celular (11 caracteres), com o mesmo resultado de
+	 *  {@link PhoneNumberUtils#format(String)}.
+	 *  @param contato - telefone contendo apenas os dígitos, com DDD
+	 *  @return O telefone com máscara, ou a string original se ela não tiver 10 ou 11 caracteres. */
+	public static String telefone(final String contato) {
+		
+		if (contato != null) {
+			
+			if (contato.length() == 10)
+				return Mascara.TELEFONE.formata(contato);
+			
+			if (contato.length() == 11)
+				return Mascara.CELULAR.formata(contato);
+		}
+		
+		return contato;
+	}
+	
+	/** Formata todos os <code>valores</code> informados em paralelo.
+	 *  @param valores - vetor de valores
+	 *  @param formatador - método de formatação (ex.: <code>DocumentFormatter::cpf</code>)
+	 *  @return Um novo vetor com os valores formatados, na mesma ordem do vetor informado. */
+	public static String[] formata(final String[] valores, final UnaryOperator<String> formatador) {
+		
+		final String[] formatados = new String[valores.length];
+		
+		Arrays.parallelSetAll(formatados, i -> formatador.apply(valores[i]));
+		
+		return formatados;
+	}
+	
+	/** Formata todos os <code>valores</code> informados em paralelo, mantendo a ordem original.
+	 *  @param valores - lista de valores
+	 *  @param formatador - método de formatação (ex.: <code>DocumentFormatter::cpf</code>)
+	 *  @return Uma lista com os valores formatados, na mesma ordem da lista informada. */
+	public static List<String> formata(final List<String> valores, final UnaryOperator<String> formatador) {
+		return valores.parallelStream().map(formatador).collect(Collectors.toList());
+	}
+	
+	/**************************** Internal Methods Section ***************************************/
+	
+	/** Copia para 'destino' os caracteres de 'texto' aceitos pelo 'filtro', enquanto couberem.
+	 *  @return A quantidade de caracteres aceitos (mesmo os que não couberam), ou -1 se 'texto' for nulo. */
+	private static int extrai(final String texto, final CharClassFilter filtro, final char[] destino) {
+		
+		if (texto == null)
+			return -1;
+		
+		int quantidade = 0;
+		
+		for (int i=0; i<texto.length(); i++) {
+			
+			final char c = texto.charAt(i);
+			
+			if (!filtro.accepts(c))
+				continue;
+			
+			if (quantidade < destino.length)
+				destino[quantidade] = c;
+			
+			quantidade++;
+		}
+		
+		return quantidade;
+	}
+	
+	/** Aplica a 'mascara' a um 'valor' que já possui o tamanho esperado. */
+	private static String mascara(final Mascara mascara, final char[] valor) {
+		
+		final char[] destino = new char[mascara.getTamanhoFormatado()];
+		
+		mascara.formata(CharBuffer.wrap(valor), destino, 0);
+		
+		return new String(destino);
+	}
+
+}
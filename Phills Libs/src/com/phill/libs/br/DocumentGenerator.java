@@ -0,0 +1,302 @@
+package com.phill.libs.br;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import com.phill.libs.br.DocumentValidator.Documento;
+
+/** Implementa a geração de CPFs, CNPJs e PIS sintéticos para testes de carga.<br>
+ *  Os dígitos verificadores são calculados diretamente, então todo documento gerado como válido é válido na primeira
+ *  tentativa. Uma fração configurável dos documentos pode ser gerada com cada tipo de problema ({@link ValidationResult}).<br>
+ *  Cada documento depende apenas da semente e do seu índice na sequência, portanto a geração é determinística e
+ *  pode ser feita em paralelo, em qualquer ordem, sempre com o mesmo resultado.<br>
+ *  Quick example:<br><br>
+ *  <code>new DocumentGenerator(Documento.CPF, 42).setFracao(ValidationResult.BAD_CHECK_DIGIT, 0.1).grava(100_000_000, arquivo, true);</code>
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026
+ *  @see DocumentValidator */
+public class DocumentGenerator {
+	
+	// Constante de incremento do SplitMix64
+	private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+	
+	// Valores sorteados por documento: tipo de problema, corpo e verificador errado
+	private static final int SORTEIOS = 3;
+	
+	// Documentos por bloco na gravação em paralelo
+	private static final int TAMANHO_BLOCO = 1 << 16;
+	
+	// Maior documento gerado: CNPJ com máscara, mais um caractere (BAD_LENGTH) e a quebra de linha
+	private static final int TAMANHO_MAXIMO = 20;
+	
+	// Máscaras dos documentos
+	private static final byte[] MASCARA_CPF  = "###.###.###-##"    .getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] MASCARA_CNPJ = "##.###.###/####-##".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] MASCARA_PIS  = "###.#####.##-#"    .getBytes(StandardCharsets.US_ASCII);
+	
+	private final Documento documento;
+	private final byte[] mascara;
+	private final long semente;
+	
+	// Fração de cada tipo de problema, indexada pelo 'ordinal' de ValidationResult
+	private final double[] fracoes = new double[ValidationResult.values().length];
+	
+	/** Cria um gerador de documentos.
+	 *  @param documento - tipo de documento gerado
+	 *  @param semente - semente da sequência (a mesma semente sempre gera a mesma sequência) */
+	public DocumentGenerator(final Documento documento, final long semente) {
+		
+		this.documento = documento;
+		this.semente   = semente;
+		
+		switch (documento) {
+			case CPF:  this.mascara = MASCARA_CPF;  break;
+			case CNPJ: this.mascara = MASCARA_CNPJ; break;
+			default:   this.mascara = MASCARA_PIS;  break;
+		}
+	}
+	
+	/** Define a fração dos documentos gerados com um determinado problema.
+	 *  @param resultado - tipo de problema ({@link ValidationResult#BAD_LENGTH}, {@link ValidationResult#REPEATED_DIGITS}
+	 *  ou {@link ValidationResult#BAD_CHECK_DIGIT})
+	 *  @param fracao - fração dos documentos, de 0 a 1 (padrão: 0)
+	 *  @return Este gerador. */
+	public DocumentGenerator setFracao(final ValidationResult resultado, final double fracao) {
+		
+		if (resultado == ValidationResult.VALID)
+			throw new IllegalArgumentException("A fração de documentos válidos é o que sobra das demais");
+		
+		if ((fracao < 0) || (fracao > 1))
+			throw new IllegalArgumentException("Fração inválida: " + fracao);
+		
+		double total = fracao;
+		
+		for (ValidationResult outro: ValidationResult.values())
+			if ((outro != resultado) && (outro != ValidationResult.VALID))
+				total += fracoes[outro.ordinal()];
+		
+		if (total > 1)
+			throw new IllegalArgumentException("A soma das frações ultrapassa 1: " + total);
+		
+		fracoes[resultado.ordinal()] = fracao;
+		
+		return this;
+	}
+	
+	/** Gera o documento de índice <code>indice</code> desta sequência.
+	 *  @param indice - posição do documento na sequência
+	 *  @param mascara - se 'true', o documento é gerado com máscara (exceto os de tamanho inválido)
+	 *  @return O documento gerado. */
+	public String gera(final long indice, final boolean mascara) {
+		
+		final byte[] buffer = new byte[TAMANHO_MAXIMO];
+		
+		return new String(buffer, 0, gera(indice, mascara, buffer, 0), StandardCharsets.US_ASCII);
+	}
+	
+	/** Gera um stream com os documentos de índice <code>inicio</code> até <code>inicio + quantidade - 1</code>.
+	 *  O stream pode ser paralelizado (<code>.parallel()</code>) e, se for ordenado, preserva a ordem da sequência.
+	 *  @param inicio - índice do primeiro documento
+	 *  @param quantidade - quantidade de documentos
+	 *  @param mascara - se 'true', os documentos são gerados com máscara (exceto os de tamanho inválido)
+	 *  @return Um stream de documentos. */
+	public Stream<String> stream(final long inicio, final long quantidade, final boolean mascara) {
+		return LongStream.range(inicio, inicio + quantidade).mapToObj(indice -> gera(indice, mascara));
+	}
+	
+	/** Grava os primeiros <code>quantidade</code> documentos desta sequência em um arquivo, um por linha.
+	 *  @param quantidade - quantidade de documentos
+	 *  @param arquivo - arquivo de destino (sobrescrito se já existir)
+	 *  @param mascara - se 'true', os documentos são gerados com máscara (exceto os de tamanho inválido)
+	 *  @throws IOException if the file could not be written. */
+	public void grava(final long quantidade, final Path arquivo, final boolean mascara) throws IOException {
+		
+		try (OutputStream saida = new BufferedOutputStream(Files.newOutputStream(arquivo), 1 << 16)) {
+			grava(quantidade, saida, mascara);
+		}
+	}
+	
+	/** Grava os primeiros <code>quantidade</code> documentos desta sequência em um stream, um por linha.
+	 *  Os blocos de documentos são gerados em paralelo e gravados na ordem da sequência. O stream não é fechado por este método.
+	 *  @param quantidade - quantidade de documentos
+	 *  @param saida - stream de destino
+	 *  @param mascara - se 'true', os documentos são gerados com máscara (exceto os de tamanho inválido)
+	 *  @throws IOException if the stream could not be written. */
+	public void grava(final long quantidade, final OutputStream saida, final boolean mascara) throws IOException {
+		
+		final int paralelismo = Runtime.getRuntime().availableProcessors();
+		final ExecutorService executor = Executors.newFixedThreadPool(paralelismo);
+		
+		// Blocos em geração, na ordem da sequência. O limite garante o consumo de memória constante
+		final ArrayDeque<Future<byte[]>> pendentes = new ArrayDeque<Future<byte[]>>();
+		
+		try {
+			
+			for (long inicio = 0; inicio < quantidade; inicio += TAMANHO_BLOCO) {
+				
+				final long primeiro = inicio;
+				final int tamanho = (int) Math.min(TAMANHO_BLOCO, quantidade - inicio);
+				
+				pendentes.add(executor.submit(() -> geraBloco(primeiro, tamanho, mascara)));
+				
+				while (pendentes.size() > paralelismo * 2)
+					grava(pendentes.poll(), saida);
+			}
+			
+			while (!pendentes.isEmpty())
+				grava(pendentes.poll(), saida);
+		}
+		finally {
+			
+			for (Future<byte[]> pendente: pendentes)
+				pendente.cancel(true);
+			
+			executor.shutdownNow();
+		}
+		
+		saida.flush();
+	}
+	
+	/**************************** Internal Methods Section ***************************************/
+	
+	/** Gera o documento 'indice' em destino[offset...].
+	 *  @return A quantidade de bytes escritos. */
+	private int gera(final long indice, final boolean comMascara, final byte[] destino, final int offset) {
+		
+		final int tamanho = documento.getTamanho();
+		final char[] chars = new char[tamanho];
+		
+		// SplitMix64 indexado: cada documento usa os seus próprios SORTEIOS valores da sequência, derivados apenas
+		// da semente e do índice, sem compartilhar nenhum deles com os documentos vizinhos
+		long estado = semente + indice * SORTEIOS * GOLDEN;
+		
+		final double sorteio = (mistura(estado += GOLDEN) >>> 11) * 0x1.0p-53;
+		long aleatorio = mistura(estado += GOLDEN);
+		
+		final ValidationResult tipo = sorteia(sorteio);
+		
+		if (tipo == ValidationResult.REPEATED_DIGITS) {
+			
+			final char digito = (char) ('0' + Long.remainderUnsigned(aleatorio, 10));
+			
+			for (int i=0; i<tamanho; i++)
+				chars[i] = digito;
+		}
+		else {
+			
+			// Corpo do documento (sem os verificadores), evitando os números com todos os dígitos iguais
+			final int corpo = (documento == Documento.PIS) ? tamanho - 1 : tamanho - 2;
+			
+			for (int i=0; i<corpo; i++) {
+				chars[i] = (char) ('0' + Long.remainderUnsigned(aleatorio, 10));
+				aleatorio = Long.divideUnsigned(aleatorio, 10);
+			}
+			
+			if (chars[0] == chars[1])
+				chars[1] = (char) ('0' + (chars[1] - '0' + 1) % 10);
+			
+			documento.completaVerificadores(chars);
+			
+			if (tipo == ValidationResult.BAD_CHECK_DIGIT) {
+				
+				final int ultimo = tamanho - 1;
+				chars[ultimo] = (char) ('0' + (chars[ultimo] - '0' + 1 + (int) Long.remainderUnsigned(mistura(estado += GOLDEN), 9)) % 10);
+			}
+		}
+		
+		int escritos = offset;
+		
+		if (tipo == ValidationResult.BAD_LENGTH) {
+			
+			// Metade com um dígito a menos, metade com um dígito a mais
+			final boolean curto = (aleatorio & 1) == 0;
+			final int quantidade = curto ? tamanho - 1 : tamanho;
+			
+			for (int i=0; i<quantidade; i++)
+				destino[escritos++] = (byte) chars[i];
+			
+			if (!curto)
+				destino[escritos++] = (byte) ('0' + Long.remainderUnsigned(aleatorio >>> 1, 10));
+		}
+		else if (comMascara) {
+			
+			for (int i=0, j=0; i<mascara.length; i++)
+				destino[escritos++] = (mascara[i] == '#') ? (byte) chars[j++] : mascara[i];
+		}
+		else {
+			
+			for (int i=0; i<tamanho; i++)
+				destino[escritos++] = (byte) chars[i];
+		}
+		
+		return escritos - offset;
+	}
+	
+	/** Gera um bloco de documentos, um por linha. */
+	private byte[] geraBloco(final long primeiro, final int quantidade, final boolean mascara) {
+		
+		final byte[] bloco = new byte[quantidade * TAMANHO_MAXIMO];
+		int tamanho = 0;
+		
+		for (int i=0; i<quantidade; i++) {
+			tamanho += gera(primeiro + i, mascara, bloco, tamanho);
+			bloco[tamanho++] = '\n';
+		}
+		
+		return Arrays.copyOf(bloco, tamanho);
+	}
+	
+	/** Aguarda a geração de um bloco e o grava em 'saida'. */
+	private static void grava(final Future<byte[]> pendente, final OutputStream saida) throws IOException {
+		
+		try {
+			saida.write(pendente.get());
+		}
+		catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Geração interrompida", exception);
+		}
+		catch (ExecutionException exception) {
+			throw new IOException("Falha ao gerar bloco", exception.getCause());
+		}
+	}
+	
+	/** Escolhe o tipo do documento a partir de um número uniforme entre 0 e 1. */
+	private ValidationResult sorteia(double sorteio) {
+		
+		for (ValidationResult resultado: ValidationResult.values()) {
+			
+			if (resultado == ValidationResult.VALID)
+				continue;
+			
+			if (sorteio < fracoes[resultado.ordinal()])
+				return resultado;
+			
+			sorteio -= fracoes[resultado.ordinal()];
+		}
+		
+		return ValidationResult.VALID;
+	}
+	
+	/** Função de mistura do SplitMix64. */
+	private static long mistura(long z) {
+		
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		
+		return z ^ (z >>> 31);
+	}
+
+}
@@ -0,0 +1,288 @@
+package com.phill.libs.br;
+
+import java.util.Arrays;
+
+/** Implementa a validação de CPF, CNPJ e PIS diretamente sobre {@link CharSequence}, <code>char[]</code> e <code>byte[]</code> (ASCII).<br>
+ *  Os caracteres de máscara são ignorados e os dígitos verificadores são calculados em uma única passada,
+ *  com tabelas de pesos e de valores dos caracteres estáticas, sem alocar nenhum objeto. O resultado informa o motivo da rejeição.<br>
+ *  O CNPJ alfanumérico da Receita Federal também é aceito: as 12 primeiras posições podem conter letras
+ *  (maiúsculas ou minúsculas), que valem o seu código ASCII menos 48 no cálculo ('A' = 17, ..., 'Z' = 42).<br>
+ *  Quick example:<br><br>
+ *  <code>ValidationResult resultado = DocumentValidator.cpf("123.456.789-09");</code>
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026
+ *  @see ValidationResult */
+public final class DocumentValidator {
+	
+	/** Documentos suportados, com as suas tabelas de pesos e de valores. Cada posição da tabela de pesos recebe o peso do
+	 *  caractere correspondente, ou zero quando ele não participa do cálculo (os próprios dígitos verificadores). */
+	public enum Documento {
+		
+		/** Cadastro de Pessoa Física (11 dígitos). */
+		CPF  (false, new int[] {10,9,8,7,6,5,4,3,2,0,0},
+					 new int[] {11,10,9,8,7,6,5,4,3,2,0}),
+		
+		/** Cadastro Nacional da Pessoa Jurídica (14 caracteres, numérico ou alfanumérico). */
+		CNPJ (true,  new int[] {5,4,3,2,9,8,7,6,5,4,3,2,0,0},
+					 new int[] {6,5,4,3,2,9,8,7,6,5,4,3,2,0}),
+		
+		/** PIS/PASEP/NIS/NIT (11 dígitos). */
+		PIS  (false, new int[] {3,2,9,8,7,6,5,4,3,2,0}, null);
+		
+		private final int tamanho;
+		private final int[] pesos1, pesos2;
+		
+		// Valor de cada caractere ASCII no cálculo, ou -1 para os caracteres de máscara
+		private final byte[] valores;
+		
+		private Documento(final boolean alfanumerico, final int[] pesos1, final int[] pesos2) {
+			this.tamanho = pesos1.length;
+			this.pesos1  = pesos1;
+			this.pesos2  = pesos2;
+			this.valores = criaValores(alfanumerico);
+		}
+		
+		/** Monta a tabela de valores dos caracteres ASCII. */
+		private static byte[] criaValores(final boolean alfanumerico) {
+			
+			final byte[] valores = new byte[128];
+			
+			Arrays.fill(valores, (byte) -1);
+			
+			for (char c = '0'; c <= '9'; c++)
+				valores[c] = (byte) (c - '0');
+			
+			if (alfanumerico) {
+				
+				for (char c = 'A'; c <= 'Z'; c++) {
+					valores[c] = (byte) (c - '0');
+					valores[Character.toLowerCase(c)] = (byte) (c - '0');
+				}
+			}
+			
+			return valores;
+		}
+		
+		/** @return O valor do caractere 'c' no cálculo, ou -1 se ele for um caractere de máscara. */
+		int valor(final int c) {
+			return (c < 128) ? valores[c] : -1;
+		}
+		
+		/** Calcula e grava os dígitos verificadores nas últimas posições de 'chars', a partir dos demais caracteres (sem máscara). */
+		void completaVerificadores(final char[] chars) {
+			
+			int soma1 = 0, soma2 = 0;
+			
+			for (int i=0; i<tamanho-1; i++) {
+				
+				// O verificador faz parte da 2a soma, por isso é gravado assim que calculado
+				if ((pesos2 != null) && (i == tamanho - 2))
+					chars[i] = (char) ('0' + verificador(soma1));
+				
+				soma1 += valor(chars[i]) * pesos1[i];
+				
+				if (pesos2 != null)
+					soma2 += valor(chars[i]) * pesos2[i];
+			}
+			
+			chars[tamanho - 1] = (char) ('0' + verificador((pesos2 == null) ? soma1 : soma2));
+		}
+		
+		/** @return A quantidade de caracteres significativos (sem máscara) do documento. */
+		public int getTamanho() {
+			return this.tamanho;
+		}
+		
+		/** Valida um documento deste tipo.
+		 *  @param documento - documento com ou sem máscara
+		 *  @return O resultado da validação. */
+		public ValidationResult valida(final CharSequence documento) {
+			return DocumentValidator.valida(this, documento, true);
+		}
+		
+		/** Valida um documento deste tipo contido em <code>documento[offset, offset+length)</code>, codificado em ASCII.
+		 *  @param documento - vetor de bytes
+		 *  @param offset - posição inicial do documento no vetor
+		 *  @param length - quantidade de bytes do documento (com ou sem máscara)
+		 *  @return O resultado da validação. */
+		public ValidationResult valida(final byte[] documento, final int offset, final int length) {
+			return DocumentValidator.valida(this, null, null, documento, offset, length, true);
+		}
+		
+	}
+	
+	/** Construtor privado, esta é uma classe utilitária. */
+	private DocumentValidator() { }
+	
+	/** Valida um número de CPF.
+	 *  @param cpf - CPF com ou sem máscara (os caracteres que não são dígitos são ignorados)
+	 *  @return O resultado da validação. */
+	public static ValidationResult cpf(final CharSequence cpf) {
+		return valida(Documento.CPF, cpf, true);
+	}
+	
+	/** Valida um número de CPF contido em <code>cpf[offset, offset+length)</code>.
+	 *  @param cpf - vetor de caracteres
+	 *  @param offset - posição inicial do CPF no vetor
+	 *  @param length - quantidade de caracteres do CPF (com ou sem máscara)
+	 *  @return O resultado da validação. */
+	public static ValidationResult cpf(final char[] cpf, final int offset, final int length) {
+		return valida(Documento.CPF, null, cpf, null, offset, length, true);
+	}
+	
+	/** Valida um número de CPF contido em <code>cpf[offset, offset+length)</code>, codificado em ASCII (ou UTF-8, ISO-8859-1).
+	 *  @param cpf - vetor de bytes
+	 *  @param offset - posição inicial do CPF no vetor
+	 *  @param length - quantidade de bytes do CPF (com ou sem máscara)
+	 *  @return O resultado da validação. */
+	public static ValidationResult cpf(final byte[] cpf, final int offset, final int length) {
+		return valida(Documento.CPF, null, null, cpf, offset, length, true);
+	}
+	
+	/** Valida um número de CNPJ, numérico ou alfanumérico.
+	 *  @param cnpj - CNPJ com ou sem máscara (os caracteres que não são letras nem dígitos são ignorados)
+	 *  @return O resultado da validação. */
+	public static ValidationResult cnpj(final CharSequence cnpj) {
+		return valida(Documento.CNPJ, cnpj, true);
+	}
+	
+	/** Valida um número de CNPJ contido em <code>cnpj[offset, offset+length)</code>.
+	 *  @param cnpj - vetor de caracteres
+	 *  @param offset - posição inicial do CNPJ no vetor
+	 *  @param length - quantidade de caracteres do CNPJ (com ou sem máscara)
+	 *  @return O resultado da validação. */
+	public static ValidationResult cnpj(final char[] cnpj, final int offset, final int length) {
+		return valida(Documento.CNPJ, null, cnpj, null, offset, length, true);
+	}
+	
+	/** Valida um número de CNPJ contido em <code>cnpj[offset, offset+length)</code>, codificado em ASCII (ou UTF-8, ISO-8859-1).
+	 *  @param cnpj - vetor de bytes
+	 *  @param offset - posição inicial do CNPJ no vetor
+	 *  @param length - quantidade de bytes do CNPJ (com ou sem máscara)
+	 *  @return O resultado da validação. */
+	public static ValidationResult cnpj(final byte[] cnpj, final int offset, final int length) {
+		return valida(Documento.CNPJ, null, null, cnpj, offset, length, true);
+	}
+	
+	/** Valida um número de PIS/PASEP/NIS/NIT.
+	 *  @param pis - PIS com ou sem máscara (os caracteres que não são dígitos são ignorados)
+	 *  @return O resultado da validação. */
+	public static ValidationResult pis(final CharSequence pis) {
+		return valida(Documento.PIS, pis, true);
+	}
+	
+	/** Valida um número de PIS/PASEP/NIS/NIT contido em <code>pis[offset, offset+length)</code>.
+	 *  @param pis - vetor de caracteres
+	 *  @param offset - posição inicial do PIS no vetor
+	 *  @param length - quantidade de caracteres do PIS (com ou sem máscara)
+	 *  @return O resultado da validação. */
+	public static ValidationResult pis(final char[] pis, final int offset, final int length) {
+		return valida(Documento.PIS, null, pis, null, offset, length, true);
+	}
+	
+	/** Valida um número de PIS/PASEP/NIS/NIT contido em <code>pis[offset, offset+length)</code>, codificado em ASCII (ou UTF-8, ISO-8859-1).
+	 *  @param pis - vetor de bytes
+	 *  @param offset - posição inicial do PIS no vetor
+	 *  @param length - quantidade de bytes do PIS (com ou sem máscara)
+	 *  @return O resultado da validação. */
+	public static ValidationResult pis(final byte[] pis, final int offset, final int length) {
+		return valida(Documento.PIS, null, null, pis, offset, length, true);
+	}
+	
+	/**************************** Internal Methods Section ***************************************/
+	
+	/** Valida um documento em formato texto.
+	 *  @param estrito - se 'false', os dígitos excedentes são ignorados (comportamento legado dos métodos 'parse') */
+	static ValidationResult valida(final Documento documento, final CharSequence texto, final boolean estrito) {
+		
+		if (texto == null)
+			return ValidationResult.BAD_LENGTH;
+		
+		return valida(documento, texto, null, null, 0, texto.length(), estrito);
+	}
+	
+	/** Valida um documento lido de apenas uma das fontes 'texto', 'chars' ou 'bytes' (as demais devem ser nulas). */
+	private static ValidationResult valida(final Documento documento, final CharSequence texto, final char[] chars, final byte[] bytes,
+										   final int offset, final int length, final boolean estrito) {
+		
+		if ((chars != null) && ((offset < 0) || (length < 0) || (offset + length > chars.length)))
+			throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", array: " + chars.length);
+		
+		if ((bytes != null) && ((offset < 0) || (length < 0) || (offset + length > bytes.length)))
+			throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", array: " + bytes.length);
+		
+		final int tamanho = documento.tamanho;
+		final int[] pesos1 = documento.pesos1;
+		final int[] pesos2 = (documento.pesos2 == null) ? documento.pesos1 : documento.pesos2;
+		
+		int contador = 0, soma1 = 0, soma2 = 0, primeiro = 0, penultimo = 0, ultimo = 0;
+		boolean repetido = true;
+		
+		for (int i=offset, fim = offset + length; i<fim; i++) {
+			
+			final int digito = documento.valor(caractere(texto, chars, bytes, i));
+			
+			// Ignorando a máscara
+			if (digito < 0)
+				continue;
+			
+			if (contador < tamanho) {
+				
+				if (contador == 0)
+					primeiro = digito;
+				else if (digito != primeiro)
+					repetido = false;
+				
+				// Como os pesos dos verificadores são zero, as somas podem ser feitas junto da leitura
+				soma1 += digito * pesos1[contador];
+				soma2 += digito * pesos2[contador];
+				
+				if (contador == tamanho - 2)
+					penultimo = digito;
+				else if (contador == tamanho - 1)
+					ultimo = digito;
+			}
+			
+			else if (estrito)
+				return ValidationResult.BAD_LENGTH;
+			
+			contador++;
+		}
+		
+		if (contador < tamanho)
+			return ValidationResult.BAD_LENGTH;
+		
+		if (repetido)
+			return ValidationResult.REPEATED_DIGITS;
+		
+		// PIS tem apenas um dígito verificador
+		if (documento.pesos2 == null)
+			return (verificador(soma1) == ultimo) ? ValidationResult.VALID : ValidationResult.BAD_CHECK_DIGIT;
+		
+		// O peso do 1o verificador na soma do 2o (2) já está na tabela, aplicado ao dígito informado:
+		// se ele estiver errado, o documento já é rejeitado pela 1a comparação. Letras nas posições dos verificadores
+		// nunca conferem, pois valem mais que 9
+		return ((verificador(soma1) == penultimo) && (verificador(soma2) == ultimo)) ? ValidationResult.VALID : ValidationResult.BAD_CHECK_DIGIT;
+	}
+	
+	/** Calcula um dígito verificador (módulo 11) a partir da soma de produtos. */
+	private static int verificador(final int soma) {
+		
+		final int resto = soma % 11;
+		
+		return (resto < 2) ? 0 : (11 - resto);
+	}
+	
+	/** Lê o i-ésimo caractere da fonte informada. */
+	private static int caractere(final CharSequence texto, final char[] chars, final byte[] bytes, final int i) {
+		
+		if (chars != null)
+			return chars[i];
+		
+		if (bytes != null)
+			return bytes[i] & 0xFF;
+		
+		return texto.charAt(i);
+	}
+
+}
@@ -0,0 +1,82 @@
+package com.phill.libs.br;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/** Implementa um mapa de <code>long</code> para <code>long</code> com endereçamento aberto, sem objetos por elemento.<br>
+ *  Cada chave é guardada ao lado do seu valor na mesma tabela de {@link LongHashSet}, portanto este mapa também pode
+ *  ficar no heap, fora dele ou ser mapeado de um arquivo gravado por {@link #salva(Path)}. As consultas não alocam objetos.<br>
+ *  Útil, por exemplo, para associar os códigos de {@link DocumentCodec} a um identificador ou a uma data.
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026
+ *  @see LongHashSet */
+public class LongHashMap extends LongHashSet {
+	
+	// Valor associado à chave VAZIO, que não é guardada na tabela
+	private long valorVazio;
+	
+	/** Cria um mapa vazio, no heap. */
+	public LongHashMap() {
+		this(16, false);
+	}
+	
+	/** Cria um mapa vazio com espaço para <code>esperado</code> elementos.
+	 *  @param esperado - quantidade de elementos esperada
+	 *  @param offHeap - se 'true', a tabela é alocada fora do heap */
+	public LongHashMap(final int esperado, final boolean offHeap) {
+		super(esperado, offHeap, 2);
+	}
+	
+	/** Construtor usado por 'carrega'. */
+	private LongHashMap(final Cabecalho cabecalho) {
+		super(cabecalho.tabela, 2, cabecalho.capacidade, cabecalho.tamanho, cabecalho.contemVazio);
+		this.valorVazio = cabecalho.valorVazio;
+	}
+	
+	/** Carrega um mapa gravado por {@link #salva(Path)}, mapeando o arquivo diretamente na memória (somente leitura).
+	 *  @param arquivo - arquivo do mapa
+	 *  @return O mapa carregado.
+	 *  @throws IOException if the file could not be read or is not a valid map file. */
+	public static LongHashMap carrega(final Path arquivo) throws IOException {
+		return new LongHashMap(Cabecalho.le(arquivo, 2));
+	}
+	
+	/** Associa um valor a uma chave, substituindo o valor anterior, caso exista.
+	 *  @param chave - chave
+	 *  @param valor - valor */
+	public void put(final long chave, final long valor) {
+		
+		final int posicao = insere(chave);
+		
+		if (chave == VAZIO)
+			valorVazio = valor;
+		else
+			tabela.put(((posicao < 0) ? -posicao - 1 : posicao) * largura + 1, valor);
+	}
+	
+	/** Recupera o valor associado a uma chave.
+	 *  @param chave - chave
+	 *  @param padrao - valor retornado caso a chave não esteja no mapa
+	 *  @return O valor associado à <code>chave</code>, ou <code>padrao</code> se ela não estiver no mapa. */
+	public long get(final long chave, final long padrao) {
+		
+		if (chave == VAZIO)
+			return contemVazio ? valorVazio : padrao;
+		
+		final int posicao = busca(chave);
+		
+		return (posicao < 0) ? padrao : tabela.get(posicao * largura + 1);
+	}
+	
+	/** @param chave - chave
+	 *  @return 'true' se a chave faz parte deste mapa. */
+	public boolean containsKey(final long chave) {
+		return contains(chave);
+	}
+	
+	@Override
+	long valorVazio() {
+		return this.valorVazio;
+	}
+
+}
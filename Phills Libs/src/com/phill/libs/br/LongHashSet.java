@@ -0,0 +1,343 @@
+package com.phill.libs.br;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/** Implementa um conjunto de <code>long</code> com endereçamento aberto (sondagem linear), sem objetos por elemento.<br>
+ *  A tabela é guardada em um {@link LongBuffer}, que pode estar no heap, fora dele (<code>ByteBuffer.allocateDirect</code>)
+ *  ou mapeado diretamente de um arquivo gravado por {@link #salva(Path)}, sem cópia. As consultas não alocam objetos.<br>
+ *  Pensado para guardar os códigos de {@link DocumentCodec}: 10 milhões de CPFs ocupam cerca de 128 MB, contra mais de
+ *  1 GB como Strings em um {@link java.util.HashSet}.<br>
+ *  Nota: não há remoção de elementos e os conjuntos carregados de arquivo são somente leitura. Esta classe não é thread-safe
+ *  para escrita, mas as consultas podem ser feitas por várias threads quando não há escritas concorrentes.
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026
+ *  @see LongHashMap */
+public class LongHashSet {
+	
+	// Marca das posições vazias da tabela. Por isso, esta chave é guardada à parte
+	static final long VAZIO = Long.MIN_VALUE;
+	
+	// Ocupação máxima da tabela antes de dobrar de tamanho
+	private static final float CARGA_MAXIMA = 0.75f;
+	
+	// Maior quantidade de longs da tabela (1 GB). Um ByteBuffer (fora do heap ou mapeado de arquivo, com o cabeçalho)
+	// tem no máximo Integer.MAX_VALUE bytes, então a maior potência de 2 que cabe nele é 1 << 27 longs
+	private static final int TAMANHO_MAXIMO = 1 << 27;
+	
+	// Identificação e tamanho do cabeçalho dos arquivos gravados por 'salva'
+	private static final long ASSINATURA = 0x3148534148474E4CL;	// "LNGHASH1"
+	private static final int  TAMANHO_CABECALHO = 32;
+	
+	// Quantidade de longs por posição da tabela (1 para conjuntos, 2 para mapas)
+	final int largura;
+	
+	// Tabela: a chave de cada posição 'i' fica em 'i * largura'
+	LongBuffer tabela;
+	
+	private final boolean offHeap, somenteLeitura;
+	private int capacidade, deslocamento, tamanho;
+	
+	// A chave VAZIO não pode ser guardada na tabela, então a sua presença é guardada aqui
+	boolean contemVazio;
+	
+	/** Cria um conjunto vazio, no heap. */
+	public LongHashSet() {
+		this(16, false);
+	}
+	
+	/** Cria um conjunto vazio com espaço para <code>esperado</code> elementos.
+	 *  @param esperado - quantidade de elementos esperada
+	 *  @param offHeap - se 'true', a tabela é alocada fora do heap */
+	public LongHashSet(final int esperado, final boolean offHeap) {
+		this(esperado, offHeap, 1);
+	}
+	
+	/** Construtor usado também pelos mapas, que guardam duas posições por elemento. */
+	LongHashSet(final int esperado, final boolean offHeap, final int largura) {
+		
+		this.largura = largura;
+		this.offHeap = offHeap;
+		this.somenteLeitura = false;
+		
+		aloca(capacidadePara(esperado));
+	}
+	
+	/** Construtor usado por 'carrega'. */
+	LongHashSet(final LongBuffer tabela, final int largura, final int capacidade, final int tamanho, final boolean contemVazio) {
+		
+		this.largura = largura;
+		this.offHeap = true;
+		this.somenteLeitura = true;
+		
+		this.tabela       = tabela;
+		this.capacidade   = capacidade;
+		this.deslocamento = Long.numberOfLeadingZeros(capacidade) + 1;
+		this.tamanho      = tamanho;
+		this.contemVazio  = contemVazio;
+	}
+	
+	/** Carrega um conjunto gravado por {@link #salva(Path)}, mapeando o arquivo diretamente na memória (somente leitura).
+	 *  @param arquivo - arquivo do conjunto
+	 *  @return O conjunto carregado.
+	 *  @throws IOException if the file could not be read or is not a valid set file. */
+	public static LongHashSet carrega(final Path arquivo) throws IOException {
+		
+		final Cabecalho cabecalho = Cabecalho.le(arquivo, 1);
+		return new LongHashSet(cabecalho.tabela, 1, cabecalho.capacidade, cabecalho.tamanho, cabecalho.contemVazio);
+	}
+	
+	/** Adiciona uma chave a este conjunto.
+	 *  @param chave - chave
+	 *  @return 'true' se a chave ainda não fazia parte do conjunto. */
+	public boolean add(final long chave) {
+		return insere(chave) < 0;
+	}
+	
+	/** @param chave - chave
+	 *  @return 'true' se a chave faz parte deste conjunto. */
+	public boolean contains(final long chave) {
+		
+		if (chave == VAZIO)
+			return contemVazio;
+		
+		return busca(chave) >= 0;
+	}
+	
+	/** @return A quantidade de chaves deste conjunto. */
+	public int size() {
+		return this.tamanho;
+	}
+	
+	/** @return 'true' se este conjunto não tem nenhuma chave. */
+	public boolean isEmpty() {
+		return this.tamanho == 0;
+	}
+	
+	/** Grava este conjunto em um arquivo, que pode ser carregado depois por {@link #carrega(Path)}.
+	 *  @param arquivo - arquivo de destino (sobrescrito se já existir)
+	 *  @throws IOException if the file could not be written. */
+	public void salva(final Path arquivo) throws IOException {
+		
+		try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+												  StandardOpenOption.WRITE)) {
+			
+			final ByteBuffer cabecalho = Cabecalho.cria(largura, capacidade, tamanho, contemVazio, valorVazio());
+			
+			while (cabecalho.hasRemaining())
+				canal.write(cabecalho);
+			
+			// A tabela é gravada em blocos, para não duplicar conjuntos grandes na memória
+			final ByteBuffer bloco = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+			final int total = capacidade * largura;
+			
+			for (int i=0; i<total; i++) {
+				
+				bloco.putLong(tabela.get(i));
+				
+				if (!bloco.hasRemaining() || (i == total - 1)) {
+					
+					bloco.flip();
+					
+					while (bloco.hasRemaining())
+						canal.write(bloco);
+					
+					bloco.clear();
+				}
+			}
+		}
+	}
+	
+	/**************************** Internal Methods Section ***************************************/
+	
+	/** @return O valor associado à chave VAZIO (usado apenas pelos mapas). */
+	long valorVazio() {
+		return 0;
+	}
+	
+	/** Procura a posição da 'chave' (que não pode ser VAZIO) na tabela.
+	 *  @return A posição da chave, ou -1 se ela não estiver na tabela. */
+	final int busca(final long chave) {
+		
+		int posicao = hash(chave);
+		
+		while (true) {
+			
+			final long atual = tabela.get(posicao * largura);
+			
+			if (atual == chave)
+				return posicao;
+			
+			if (atual == VAZIO)
+				return -1;
+			
+			posicao = (posicao + 1) & (capacidade - 1);
+		}
+	}
+	
+	/** Insere a 'chave' na tabela, caso ela ainda não esteja lá.
+	 *  @return A posição da chave, se ela já existia, ou <code>-(posição) - 1</code> se ela foi inserida agora.
+	 *  A chave VAZIO usa a posição especial <code>capacidade</code>. */
+	final int insere(final long chave) {
+		
+		if (somenteLeitura)
+			throw new UnsupportedOperationException("Conjunto carregado de arquivo é somente leitura");
+		
+		if (chave == VAZIO) {
+			
+			if (contemVazio)
+				return capacidade;
+			
+			contemVazio = true;
+			tamanho++;
+			
+			return -capacidade - 1;
+		}
+		
+		if (tamanho + 1 > (int) (capacidade * CARGA_MAXIMA))
+			redimensiona(capacidade << 1);
+		
+		int posicao = hash(chave);
+		
+		while (true) {
+			
+			final long atual = tabela.get(posicao * largura);
+			
+			if (atual == chave)
+				return posicao;
+			
+			if (atual == VAZIO) {
+				tabela.put(posicao * largura, chave);
+				tamanho++;
+				return -posicao - 1;
+			}
+			
+			posicao = (posicao + 1) & (capacidade - 1);
+		}
+	}
+	
+	/** Hash de Fibonacci: espalha chaves sequenciais (como CPFs) por toda a tabela. */
+	private int hash(final long chave) {
+		return (int) ((chave * 0x9E3779B97F4A7C15L) >>> deslocamento);
+	}
+	
+	/** Cria uma tabela vazia com a capacidade informada (potência de 2). */
+	private void aloca(final int capacidade) {
+		
+		final int total = capacidade * largura;
+		
+		if (offHeap)
+			this.tabela = ByteBuffer.allocateDirect(total * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+		else
+			this.tabela = LongBuffer.allocate(total);
+		
+		for (int i=0; i<total; i+=largura)
+			this.tabela.put(i, VAZIO);
+		
+		this.capacidade   = capacidade;
+		this.deslocamento = Long.numberOfLeadingZeros(capacidade) + 1;
+	}
+	
+	/** Dobra a tabela, reinserindo todas as posições ocupadas (e os seus valores, nos mapas). */
+	private void redimensiona(final int novaCapacidade) {
+		
+		if ((long) novaCapacidade * largura > TAMANHO_MAXIMO)
+			throw new IllegalStateException("Capacidade máxima atingida: " + tamanho);
+		
+		final LongBuffer antiga = this.tabela;
+		final int capacidadeAntiga = this.capacidade;
+		
+		aloca(novaCapacidade);
+		
+		for (int i=0; i<capacidadeAntiga; i++) {
+			
+			final long chave = antiga.get(i * largura);
+			
+			if (chave == VAZIO)
+				continue;
+			
+			int posicao = hash(chave);
+			
+			while (tabela.get(posicao * largura) != VAZIO)
+				posicao = (posicao + 1) & (capacidade - 1);
+			
+			for (int j=0; j<largura; j++)
+				tabela.put(posicao * largura + j, antiga.get(i * largura + j));
+		}
+	}
+	
+	/** @return A menor potência de 2 capaz de guardar 'esperado' elementos sem ultrapassar a carga máxima. */
+	private int capacidadePara(final int esperado) {
+		
+		final long minimo = Math.max(16, (long) Math.ceil(esperado / (double) CARGA_MAXIMA) + 1);
+		
+		if (minimo * largura > TAMANHO_MAXIMO)
+			throw new IllegalArgumentException("Quantidade de elementos muito grande: " + esperado);
+		
+		return Integer.highestOneBit((int) (minimo - 1)) << 1;
+	}
+	
+	/** Cabeçalho dos arquivos gravados por 'salva' (little-endian):
+	 *  assinatura (8), largura (4), capacidade (4), tamanho (4), contém vazio (4), valor do vazio (8). */
+	static class Cabecalho {
+		
+		LongBuffer tabela;
+		int capacidade, tamanho;
+		boolean contemVazio;
+		long valorVazio;
+		
+		/** Monta o cabeçalho de um arquivo. */
+		private static ByteBuffer cria(final int largura, final int capacidade, final int tamanho, final boolean contemVazio, final long valorVazio) {
+			
+			final ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO).order(ByteOrder.LITTLE_ENDIAN);
+			
+			cabecalho.putLong(ASSINATURA).putInt(largura).putInt(capacidade).putInt(tamanho)
+					 .putInt(contemVazio ? 1 : 0).putLong(valorVazio).flip();
+			
+			return cabecalho;
+		}
+		
+		/** Mapeia um arquivo e lê o seu cabeçalho, conferindo a 'largura' esperada. */
+		static Cabecalho le(final Path arquivo, final int largura) throws IOException {
+			
+			try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+				
+				final long tamanhoArquivo = canal.size();
+				
+				if ((tamanhoArquivo < TAMANHO_CABECALHO) || (tamanhoArquivo > Integer.MAX_VALUE))
+					throw new IOException("Arquivo inválido: " + arquivo);
+				
+				// O mapeamento continua válido depois que o canal é fechado
+				final MappedByteBuffer mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, tamanhoArquivo);
+				mapa.order(ByteOrder.LITTLE_ENDIAN);
+				
+				final Cabecalho cabecalho = new Cabecalho();
+				
+				if ((mapa.getLong(0) != ASSINATURA) || (mapa.getInt(8) != largura))
+					throw new IOException("Arquivo inválido: " + arquivo);
+				
+				cabecalho.capacidade  = mapa.getInt(12);
+				cabecalho.tamanho     = mapa.getInt(16);
+				cabecalho.contemVazio = mapa.getInt(20) != 0;
+				cabecalho.valorVazio  = mapa.getLong(24);
+				
+				if ((Integer.bitCount(cabecalho.capacidade) != 1) ||
+					(tamanhoArquivo != TAMANHO_CABECALHO + (long) cabecalho.capacidade * largura * Long.BYTES))
+					throw new IOException("Arquivo inválido: " + arquivo);
+				
+				mapa.position(TAMANHO_CABECALHO);
+				cabecalho.tabela = mapa.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+				
+				return cabecalho;
+			}
+		}
+	
+	}
+
+}
@@ -0,0 +1,274 @@
+package com.phill.libs.br;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.phill.libs.ASCIIFolder;
+
+/** Implementa um pipeline de normalização de nomes próprios. Em uma única passada sobre o nome, são feitos:<br>
+ *  1. A conversão das iniciais para maiúsculas, exceto nas partículas (de, da, do, etc) e conectivos (e);<br>
+ *  2. A derivação do nome abreviado (mesmas regras de {@link com.phill.libs.StringUtils#getShortName(String)});<br>
+ *  3. A remoção de acentos (mesmas regras de {@link com.phill.libs.StringUtils#wipeSpecialCharacters(String)}).<br>
+ *  Instâncias desta classe são imutáveis e podem ser compartilhadas entre threads.
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026
+ *  @see com.phill.libs.StringUtils.BR#normaliza(String) */
+public class NameNormalizer {
+	
+	/** Normalizador com as partículas padrão: da, de, do, das, dos, e. */
+	public static final NameNormalizer PADRAO = new NameNormalizer("da", "de", "do", "das", "dos", "e");
+	
+	// Partículas mantidas em minúsculo
+	private final char[][] particulas;
+	
+	/** Cria um normalizador que mantém em minúsculo as <code>particulas</code> informadas.
+	 *  @param particulas - pronomes e conectivos (em minúsculo) */
+	public NameNormalizer(final String... particulas) {
+		
+		this.particulas = new char[particulas.length][];
+		
+		for (int i=0; i<particulas.length; i++)
+			this.particulas[i] = particulas[i].toCharArray();
+	
+	}
+	
+	/** Normaliza um nome, ou seja, converte suas iniciais em letra maiúscula, exceto as partículas deste normalizador.
+	 *  @param nome - Nome próprio
+	 *  @return Nome normalizado, ou o próprio <code>nome</code> caso ele tenha espaços em excesso no início ou entre as palavras. */
+	public String normaliza(final String nome) {
+		
+		if (nome == null)
+			return null;
+		
+		final StringBuilder sb = new StringBuilder(nome.length() + 1);
+		
+		return (normaliza(nome, sb, null)) ? trim(sb) : nome;
+	}
+	
+	/** Processa um nome, obtendo as suas formas normalizada, abreviada e sem acentos em uma só passada.
+	 *  @param nome - Nome próprio
+	 *  @return Um objeto {@link Nome} com os resultados, ou 'null' caso <code>nome</code> seja nulo. */
+	public Nome processa(final String nome) {
+		
+		if (nome == null)
+			return null;
+		
+		final StringBuilder normalizado = new StringBuilder(nome.length() + 1);
+		final StringBuilder semAcentos  = new StringBuilder(nome.length() + 1);
+		
+		// Nomes com espaços em excesso seguem as mesmas regras dos métodos de StringUtils
+		if (!normaliza(nome, normalizado, semAcentos))
+			return new Nome(nome, nome, abrevia(nome), ASCIIFolder.fold(nome));
+		
+		final String texto = trim(normalizado);
+		
+		return new Nome(nome, texto, abrevia(texto), trim(semAcentos));
+	}
+	
+	/** Processa todos os <code>nomes</code> informados em paralelo, mantendo a ordem original.
+	 *  @param nomes - lista de nomes próprios
+	 *  @return Uma lista de {@link Nome}, na mesma ordem da lista informada. */
+	public List<Nome> processa(final List<String> nomes) {
+		return nomes.parallelStream().map(this::processa).collect(Collectors.toList());
+	}
+	
+	/** Processa os <code>nomes</code> de um stream. Se o stream for paralelo, o processamento
+	 *  também é, e a ordem de encontro do stream original é preservada.
+	 *  @param nomes - stream de nomes próprios
+	 *  @return Um stream de {@link Nome}. */
+	public Stream<Nome> processa(final Stream<String> nomes) {
+		return nomes.map(this::processa);
+	}
+	
+	/** Normaliza todos os <code>nomes</code> informados em paralelo.
+	 *  @param nomes - vetor de nomes próprios
+	 *  @return Um novo vetor com os nomes normalizados, na mesma ordem do vetor informado. */
+	public String[] normaliza(final String[] nomes) {
+		
+		final String[] normalizados = new String[nomes.length];
+		
+		Arrays.parallelSetAll(normalizados, i -> normaliza(nomes[i]));
+		
+		return normalizados;
+	}
+	
+	/** Extrai o nome abreviado de um nome completo, seguindo as regras:<br>
+	 *  1. O primeiro e o segundo nomes são sempre incluídos;<br>
+	 *  2. Se o segundo nome tiver tamanho menor que 4, o terceiro também é incluído (se disponível).
+	 *  @param nome - nome completo
+	 *  @return O nome abreviado, ou o próprio <code>nome</code> caso ele não tenha mais de dois nomes. */
+	public static String abrevia(final String nome) {
+		
+		if (nome == null)
+			return null;
+		
+		final int length = nome.length();
+		final int fim0 = nome.indexOf(' ');
+		
+		// Apenas um nome (espaços no final são ignorados)
+		if ((fim0 < 0) || soEspacos(nome, fim0))
+			return nome;
+		
+		int fim1 = nome.indexOf(' ', fim0 + 1);
+		
+		if (fim1 < 0)
+			fim1 = length;
+		
+		// O 3o. nome só é incluído se o 2o. for curto e houver algum caractere depois dele
+		if ((fim1 - fim0 - 1 <= 3) && (fim1 < length) && !soEspacos(nome, fim1)) {
+			
+			int fim2 = nome.indexOf(' ', fim1 + 1);
+			
+			return nome.substring(0, (fim2 < 0) ? length : fim2);
+		}
+		
+		return nome.substring(0, fim1);
+	}
+	
+	/**************************** Internal Methods Section ***************************************/
+	
+	/** Normaliza 'nome' em 'sb' (cada palavra seguida de um espaço) e, opcionalmente, a versão sem acentos em 'semAcentos'.
+	 *  @return 'false' se foi encontrada uma palavra vazia antes de outra palavra (espaços em excesso). */
+	private boolean normaliza(final String nome, final StringBuilder sb, final StringBuilder semAcentos) {
+		
+		final int length = nome.length();
+		
+		if (length == 0)
+			return false;
+		
+		int inicio = 0;
+		
+		while (inicio < length) {
+			
+			int fim = inicio;
+			
+			while ((fim < length) && (nome.charAt(fim) != ' '))
+				fim++;
+			
+			// Palavra vazia: só é aceita se não houver mais nada depois dela
+			if (fim == inicio) {
+				
+				if (soEspacos(nome, inicio))
+					break;
+				
+				return false;
+			}
+			
+			final int inicioPalavra = sb.length();
+			
+			for (int i=inicio; i<fim; i++)
+				sb.append(Character.toLowerCase(nome.charAt(i)));
+			
+			if (!isParticula(sb, inicioPalavra))
+				sb.setCharAt(inicioPalavra, Character.toUpperCase(sb.charAt(inicioPalavra)));
+			
+			if (semAcentos != null) {
+				
+				for (int i=inicioPalavra; i<sb.length(); i++) {
+					
+					final char c = ASCIIFolder.fold(sb.charAt(i));
+					
+					if (c != 0)
+						semAcentos.append(c);
+				}
+				
+				semAcentos.append(' ');
+			}
+			
+			sb.append(' ');
+			inicio = fim + 1;
+		}
+		
+		return true;
+	}
+	
+	/** Verifica se a palavra de 'sb' que começa em 'inicio' e vai até o seu final é uma das partículas. */
+	private boolean isParticula(final StringBuilder sb, final int inicio) {
+		
+		final int tamanho = sb.length() - inicio;
+		
+		for (char[] particula: particulas) {
+			
+			if (particula.length != tamanho)
+				continue;
+			
+			int i = 0;
+			
+			while ((i < tamanho) && (particula[i] == sb.charAt(inicio + i)))
+				i++;
+			
+			if (i == tamanho)
+				return true;
+		}
+		
+		return false;
+	}
+	
+	/** Verifica se 'string' contém apenas espaços a partir de 'inicio'. */
+	private static boolean soEspacos(final String string, final int inicio) {
+		
+		for (int i=inicio; i<string.length(); i++)
+			if (string.charAt(i) != ' ')
+				return false;
+		
+		return true;
+	}
+	
+	/** Remove o espaço deixado pelo laço e apara as pontas, como {@link String#trim()}. */
+	private static String trim(final StringBuilder sb) {
+		
+		int inicio = 0, fim = sb.length();
+		
+		while ((inicio < fim) && (sb.charAt(inicio) <= ' '))
+			inicio++;
+		
+		while ((fim > inicio) && (sb.charAt(fim - 1) <= ' '))
+			fim--;
+		
+		return sb.substring(inicio, fim);
+	}
+	
+	/** Resultado do processamento de um nome pelo {@link NameNormalizer}.
+	 *  @author Felipe André - felipeandre.eng@gmail.com
+	 *  @version 1.0, 18/OCT/2026 */
+	public static class Nome {
+		
+		private final String original, normalizado, abreviado, semAcentos;
+		
+		private Nome(final String original, final String normalizado, final String abreviado, final String semAcentos) {
+			this.original    = original;
+			this.normalizado = normalizado;
+			this.abreviado   = abreviado;
+			this.semAcentos  = semAcentos;
+		}
+		
+		/** @return O nome como foi informado. */
+		public String getOriginal() {
+			return this.original;
+		}
+		
+		/** @return O nome normalizado. */
+		public String getNormalizado() {
+			return this.normalizado;
+		}
+		
+		/** @return O nome abreviado, derivado do nome normalizado. */
+		public String getAbreviado() {
+			return this.abreviado;
+		}
+		
+		/** @return O nome normalizado, sem acentos. */
+		public String getSemAcentos() {
+			return this.semAcentos;
+		}
+		
+		@Override
+		public String toString() {
+			return this.normalizado;
+		}
+	
+	}
+
+}
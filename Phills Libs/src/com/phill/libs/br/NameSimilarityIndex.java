@@ -0,0 +1,408 @@
+package com.phill.libs.br;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+import com.phill.libs.ASCIIFolder;
+
+/** Implementa um índice em memória para busca aproximada de nomes, baseado em trigramas.<br>
+ *  Cada nome passa primeiro por uma canonização (por padrão, {@link NameNormalizer#PADRAO} seguido da remoção de acentos
+ *  e conversão para minúsculas) e então é quebrado em trigramas. As listas invertidas de cada trigrama são guardadas em
+ *  vetores primitivos contíguos, e a similaridade entre dois nomes é o coeficiente de Dice entre os seus trigramas.<br>
+ *  Nas consultas, apenas as listas dos trigramas mais raros são usadas para gerar candidatos (filtro de prefixo), os
+ *  candidatos são podados pelo tamanho e as demais listas apenas complementam a contagem dos candidatos já existentes.<br>
+ *  O índice é imutável após a construção e pode ser consultado por várias threads ao mesmo tempo.
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026 */
+public class NameSimilarityIndex {
+	
+	/** Canonização padrão: normalização de {@link NameNormalizer#PADRAO}, remoção de acentos e conversão para minúsculas (nomes nulos viram ""). */
+	public static final Function<String,String> CANONIZACAO_PADRAO = nome -> (nome == null) ? "" : ASCIIFolder.fold(NameNormalizer.PADRAO.normaliza(nome.trim())).toLowerCase(Locale.ROOT);
+	
+	// Cada caractere é reduzido a 6 bits, logo um trigrama cabe em 18 bits
+	private static final int BITS = 6, TRIGRAMAS = 1 << (3 * BITS);
+	
+	private final Function<String,String> canonizacao;
+	
+	// Nomes indexados e quantidade de trigramas distintos de cada um
+	private final String[] nomes;
+	private final int[] tamanhos;
+	
+	// Listas invertidas: os ids dos nomes do trigrama 't' estão em postagens[inicio[t] .. inicio[t+1])
+	private final int[] inicio;
+	private final int[] postagens;
+	
+	// Acumuladores reaproveitados entre as consultas de uma mesma thread
+	private final ThreadLocal<int[]> acumuladores;
+	
+	/** Cria um índice com a canonização padrão.
+	 *  @param nomes - nomes a serem indexados (o id de cada nome é a sua posição na coleção) */
+	public NameSimilarityIndex(final Collection<String> nomes) {
+		this(nomes, CANONIZACAO_PADRAO);
+	}
+	
+	/** Cria um índice com a <code>canonizacao</code> informada.
+	 *  @param nomes - nomes a serem indexados (o id de cada nome é a sua posição na coleção)
+	 *  @param canonizacao - função aplicada aos nomes antes da extração dos trigramas, tanto na indexação quanto nas consultas */
+	public NameSimilarityIndex(final Collection<String> nomes, final Function<String,String> canonizacao) {
+		
+		this.canonizacao = canonizacao;
+		this.nomes    = nomes.toArray(new String[0]);
+		this.tamanhos = new int[this.nomes.length];
+		this.inicio   = new int[TRIGRAMAS + 1];
+		
+		final String[] canonicos = new String[this.nomes.length];
+		int[] buffer = new int[64];
+		
+		// 1a. passada: contagem de nomes por trigrama
+		for (int id=0; id<this.nomes.length; id++) {
+			
+			canonicos[id] = (this.nomes[id] == null) ? "" : canonizacao.apply(this.nomes[id]);
+			
+			if (buffer.length < canonicos[id].length() + 3)
+				buffer = new int[canonicos[id].length() + 3];
+			
+			final int quantidade = trigramas(canonicos[id], buffer);
+			tamanhos[id] = quantidade;
+			
+			for (int i=0; i<quantidade; i++)
+				inicio[buffer[i] + 1]++;
+		}
+		
+		// Soma de prefixos: posição inicial de cada lista
+		for (int t=0; t<TRIGRAMAS; t++)
+			inicio[t + 1] += inicio[t];
+		
+		this.postagens = new int[inicio[TRIGRAMAS]];
+		final int[] proximo = Arrays.copyOf(inicio, TRIGRAMAS);
+		
+		// 2a. passada: preenchimento das listas (os ids ficam em ordem crescente)
+		for (int id=0; id<canonicos.length; id++) {
+			
+			final int quantidade = trigramas(canonicos[id], buffer);
+			
+			for (int i=0; i<quantidade; i++)
+				postagens[proximo[buffer[i]]++] = id;
+		}
+		
+		this.acumuladores = ThreadLocal.withInitial(() -> new int[this.nomes.length]);
+	}
+	
+	/** @return A quantidade de nomes indexados. */
+	public int size() {
+		return nomes.length;
+	}
+	
+	/** Recupera um nome indexado.
+	 *  @param id - id do nome (posição na coleção usada na construção)
+	 *  @return O nome original. */
+	public String getNome(final int id) {
+		return nomes[id];
+	}
+	
+	/** Calcula a similaridade entre dois nomes, usando a mesma canonização deste índice.
+	 *  @param nome1 - um nome
+	 *  @param nome2 - outro nome
+	 *  @return O coeficiente de Dice entre os trigramas dos nomes, de 0.0 (nada em comum ou algum nome nulo) a 1.0 (iguais). */
+	public double similaridade(final String nome1, final String nome2) {
+		
+		final int[] t1 = trigramasOrdenados(canonizacao.apply(nome1));
+		final int[] t2 = trigramasOrdenados(canonizacao.apply(nome2));
+		
+		if ((t1.length == 0) || (t2.length == 0))
+			return 0.0;
+		
+		int comuns = 0;
+		
+		for (int i=0, j=0; (i < t1.length) && (j < t2.length); ) {
+			
+			if (t1[i] == t2[j]) { comuns++; i++; j++; }
+			else if (t1[i] < t2[j]) i++;
+			else j++;
+		}
+		
+		return (2.0 * comuns) / (t1.length + t2.length);
+	}
+	
+	/** Busca os <code>k</code> nomes mais parecidos com o <code>nome</code> informado.
+	 *  @param nome - nome a ser pesquisado
+	 *  @param k - quantidade máxima de resultados
+	 *  @param similaridadeMinima - similaridade mínima (de 0.0 a 1.0) dos resultados. Quanto maior, mais candidatos são podados e mais rápida é a busca
+	 *  @return Uma lista com até <code>k</code> resultados, do mais parecido para o menos parecido (vazia se o <code>nome</code> for nulo). */
+	public List<Resultado> busca(final String nome, final int k, final double similaridadeMinima) {
+		
+		final int[] consulta = trigramasOrdenados(canonizacao.apply(nome));
+		final int m = consulta.length;
+		
+		if ((m == 0) || (k <= 0) || (nomes.length == 0))
+			return new ArrayList<Resultado>(0);
+		
+		final double limiar = Math.max(0.0, Math.min(1.0, similaridadeMinima));
+		
+		// Trigramas mais raros primeiro
+		ordenaPorFrequencia(consulta);
+		
+		// Dice >= limiar implica em, no mínimo, 'minComuns' trigramas em comum e 'tamanho' entre 'minTamanho' e 'maxTamanho'
+		final int minComuns  = Math.max(1, (int) Math.ceil(limiar * m / (2.0 - limiar) - 1e-9));
+		final int minTamanho = minComuns;
+		final int maxTamanho = (limiar > 0.0) ? (int) Math.floor(m * (2.0 - limiar) / limiar + 1e-9) : Integer.MAX_VALUE;
+		
+		// Filtro de prefixo: um candidato precisa estar em pelo menos uma das 'prefixo' listas mais raras
+		final int prefixo = m - minComuns + 1;
+		
+		final int[] acumulador = acumuladores.get();
+		int[] candidatos = new int[64];
+		int quantidade = 0;
+		
+		for (int q=0; q<m; q++) {
+			
+			final int t = consulta[q], de = inicio[t], ate = inicio[t + 1];
+			
+			if (q < prefixo) {
+				
+				// Listas do prefixo geram novos candidatos
+				for (int p=de; p<ate; p++) {
+					
+					final int id = postagens[p];
+					
+					if (acumulador[id] == 0) {
+						
+						if ((tamanhos[id] < minTamanho) || (tamanhos[id] > maxTamanho)) {
+							acumulador[id] = -1;	// podado, mas marcado para ser limpo ao final
+						}
+						else {
+							acumulador[id] = 1;
+						}
+						
+						if (quantidade == candidatos.length)
+							candidatos = Arrays.copyOf(candidatos, quantidade << 1);
+						
+						candidatos[quantidade++] = id;
+					}
+					else if (acumulador[id] > 0)
+						acumulador[id]++;
+				}
+			}
+			
+			// Demais listas apenas complementam os candidatos existentes: percorrendo a lista ou com busca binária, o que for mais barato
+			else if ((long) quantidade * (32 - Integer.numberOfLeadingZeros(ate - de + 1)) < (ate - de)) {
+				
+				for (int c=0; c<quantidade; c++)
+					if ((acumulador[candidatos[c]] > 0) && (Arrays.binarySearch(postagens, de, ate, candidatos[c]) >= 0))
+						acumulador[candidatos[c]]++;
+			
+			}
+			else {
+				
+				for (int p=de; p<ate; p++)
+					if (acumulador[postagens[p]] > 0)
+						acumulador[postagens[p]]++;
+			
+			}
+		}
+		
+		// Top-k em um min-heap de vetores primitivos
+		final int[] heapIds = new int[Math.min(k, quantidade)];
+		final double[] heapScores = new double[heapIds.length];
+		int tamanhoHeap = 0;
+		
+		for (int c=0; c<quantidade; c++) {
+			
+			final int id = candidatos[c], comuns = acumulador[id];
+			acumulador[id] = 0;
+			
+			if (comuns < minComuns)
+				continue;
+			
+			final double score = (2.0 * comuns) / (m + tamanhos[id]);
+			
+			if (score < limiar)
+				continue;
+			
+			if (tamanhoHeap < heapIds.length) {
+				heapIds[tamanhoHeap] = id;	heapScores[tamanhoHeap] = score;
+				siftUp(heapIds, heapScores, tamanhoHeap++);
+			}
+			else if (score > heapScores[0]) {
+				heapIds[0] = id;	heapScores[0] = score;
+				siftDown(heapIds, heapScores, tamanhoHeap);
+			}
+		}
+		
+		// Esvaziando o heap do menor para o maior score
+		final Resultado[] resultados = new Resultado[tamanhoHeap];
+		
+		for (int i=tamanhoHeap - 1; i>=0; i--) {
+			
+			resultados[i] = new Resultado(heapIds[0], nomes[heapIds[0]], heapScores[0]);
+			
+			heapIds[0] = heapIds[i];	heapScores[0] = heapScores[i];
+			siftDown(heapIds, heapScores, i);
+		}
+		
+		return new ArrayList<Resultado>(Arrays.asList(resultados));
+	}
+	
+	/**************************** Internal Methods Section ***************************************/
+	
+	/** Extrai os trigramas distintos de 'texto' (com dois espaços antes e um depois) para 'saida'.
+	 *  @return A quantidade de trigramas distintos. */
+	private static int trigramas(final String texto, final int[] saida) {
+		
+		final int length = texto.length();
+		
+		if (length == 0)
+			return 0;
+		
+		int quantidade = 0;
+		int c1 = codigo(' '), c2 = codigo(' ');
+		
+		for (int i=0; i<=length; i++) {
+			
+			final int c3 = (i < length) ? codigo(texto.charAt(i)) : codigo(' ');
+			saida[quantidade++] = (c1 << (2 * BITS)) | (c2 << BITS) | c3;
+			
+			c1 = c2;	c2 = c3;
+		}
+		
+		// Removendo as repetições
+		Arrays.sort(saida, 0, quantidade);
+		
+		int distintos = 1;
+		
+		for (int i=1; i<quantidade; i++)
+			if (saida[i] != saida[distintos - 1])
+				saida[distintos++] = saida[i];
+		
+		return distintos;
+	}
+	
+	/** Extrai os trigramas distintos e ordenados de 'texto'. */
+	private static int[] trigramasOrdenados(final String texto) {
+		
+		final int[] buffer = new int[texto.length() + 3];
+		
+		return Arrays.copyOf(buffer, trigramas(texto, buffer));
+	}
+	
+	/** Reduz um caractere a um código de 6 bits: 0 para espaço, 1-26 para letras, 27-36 para dígitos e 37-63 para o restante. */
+	private static int codigo(final char c) {
+		
+		if (c == ' ')
+			return 0;
+		
+		if ((c >= 'a') && (c <= 'z'))
+			return c - 'a' + 1;
+		
+		if ((c >= 'A') && (c <= 'Z'))
+			return c - 'A' + 1;
+		
+		if ((c >= '0') && (c <= '9'))
+			return c - '0' + 27;
+		
+		return 37 + (c % 27);
+	}
+	
+	/** Ordena os trigramas de 'consulta' pelo tamanho das suas listas (insertion sort, as consultas são pequenas). */
+	private void ordenaPorFrequencia(final int[] consulta) {
+		
+		for (int i=1; i<consulta.length; i++) {
+			
+			final int t = consulta[i], df = inicio[t + 1] - inicio[t];
+			int j = i - 1;
+			
+			while ((j >= 0) && (inicio[consulta[j] + 1] - inicio[consulta[j]] > df)) {
+				consulta[j + 1] = consulta[j];
+				j--;
+			}
+			
+			consulta[j + 1] = t;
+		}
+	
+	}
+	
+	private static void siftUp(final int[] ids, final double[] scores, int i) {
+		
+		while (i > 0) {
+			
+			final int pai = (i - 1) >>> 1;
+			
+			if (scores[pai] <= scores[i])
+				break;
+			
+			swap(ids, scores, i, pai);
+			i = pai;
+		}
+	
+	}
+	
+	private static void siftDown(final int[] ids, final double[] scores, final int tamanho) {
+		
+		int i = 0;
+		
+		while (true) {
+			
+			final int esq = (i << 1) + 1, dir = esq + 1;
+			int menor = i;
+			
+			if ((esq < tamanho) && (scores[esq] < scores[menor])) menor = esq;
+			if ((dir < tamanho) && (scores[dir] < scores[menor])) menor = dir;
+			
+			if (menor == i)
+				break;
+			
+			swap(ids, scores, i, menor);
+			i = menor;
+		}
+	
+	}
+	
+	private static void swap(final int[] ids, final double[] scores, final int a, final int b) {
+		
+		final int id = ids[a];	ids[a] = ids[b];	ids[b] = id;
+		final double score = scores[a];	scores[a] = scores[b];	scores[b] = score;
+	
+	}
+	
+	/** Resultado de uma busca no {@link NameSimilarityIndex}.
+	 *  @author Felipe André - felipeandre.eng@gmail.com
+	 *  @version 1.0, 18/OCT/2026 */
+	public static class Resultado {
+		
+		private final int id;
+		private final String nome;
+		private final double similaridade;
+		
+		private Resultado(final int id, final String nome, final double similaridade) {
+			this.id = id;
+			this.nome = nome;
+			this.similaridade = similaridade;
+		}
+		
+		/** @return O id do nome encontrado (posição na coleção usada na construção do índice). */
+		public int getId() {
+			return this.id;
+		}
+		
+		/** @return O nome encontrado, como foi indexado. */
+		public String getNome() {
+			return this.nome;
+		}
+		
+		/** @return A similaridade com o nome pesquisado, de 0.0 a 1.0. */
+		public double getSimilaridade() {
+			return this.similaridade;
+		}
+		
+		@Override
+		public String toString() {
+			return String.format("%s (%.3f)", nome, similaridade);
+		}
+	
+	}
+
+}
@@ -0,0 +1,433 @@
+package com.phill.libs.br;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.util.EnumSet;
+import java.util.Set;
+
+/** Implementa a localização e a ocultação de dados pessoais (CPF, CNPJ, PIS e telefones) em textos livres, como logs.<br>
+ *  O texto é lido uma única vez, em streaming: apenas as sequências de dígitos e separadores ('.', '-', '/', '(', ')' e espaço)
+ *  ficam em um buffer limitado, enquanto o restante do texto é copiado diretamente para a saída.<br>
+ *  São reconhecidos os documentos com máscara (ex.: 123.456.789-09, 11.222.333/0001-81, 120.56167.69-0) e sem máscara
+ *  (11 ou 14 dígitos), sempre confirmados pelos dígitos verificadores, além de telefones nos formatos (92) 99999-8888,
+ *  92 99999-8888, 99999-8888 e 10 ou 11 dígitos com DDD. Cada dígito encontrado é substituído pelo caractere de máscara,
+ *  mantendo a formatação original do texto.<br>
+ *  Nota: o CNPJ alfanumérico não é procurado em texto livre, pois as letras tornam as falsas detecções frequentes.<br>
+ *  Instâncias desta classe são imutáveis e podem ser compartilhadas entre threads.
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026
+ *  @see CPFParser#oculta(String) */
+public class PIIScanner {
+	
+	/** Tipos de dados pessoais reconhecidos. */
+	public enum Tipo { CPF, CNPJ, PIS, TELEFONE }
+	
+	/** Scanner que oculta todos os tipos de dados com '*'. */
+	public static final PIIScanner PADRAO = new PIIScanner('*', EnumSet.allOf(Tipo.class));
+	
+	// Tamanho máximo de uma sequência de dígitos e separadores mantida em memória
+	private static final int LIMITE = 256;
+	
+	// Ao atingir o limite, os últimos caracteres são mantidos (maior que o maior documento com máscara)
+	private static final int RETROCESSO = 32;
+	
+	// Tamanho dos blocos de leitura
+	private static final int TAMANHO_LEITURA = 8192;
+	
+	// Formatos dos documentos com máscara: dígitos por grupo e separadores entre os grupos
+	private static final int [] GRUPOS_CNPJ = {2,3,3,4,2}, GRUPOS_CPF = {3,3,3,2}, GRUPOS_PIS = {3,5,2,1};
+	private static final char[] SEPARADORES_CNPJ = "../-".toCharArray(), SEPARADORES_CPF = "..-".toCharArray();
+	
+	private final char mascara;
+	private final boolean cpf, cnpj, pis, telefone;
+	
+	/** Cria um scanner.
+	 *  @param mascara - caractere que substitui os dígitos encontrados
+	 *  @param tipos - tipos de dados pessoais procurados */
+	public PIIScanner(final char mascara, final Set<Tipo> tipos) {
+		this.mascara  = mascara;
+		this.cpf      = tipos.contains(Tipo.CPF);
+		this.cnpj     = tipos.contains(Tipo.CNPJ);
+		this.pis      = tipos.contains(Tipo.PIS);
+		this.telefone = tipos.contains(Tipo.TELEFONE);
+	}
+	
+	/** Oculta os dados pessoais de um texto.
+	 *  @param texto - texto livre
+	 *  @return O texto com os dígitos dos dados pessoais substituídos pelo caractere de máscara. */
+	public String redige(final CharSequence texto) {
+		
+		if (texto == null)
+			return null;
+		
+		final StringBuilder sb = new StringBuilder(texto.length());
+		
+		try {
+			redige(CharBuffer.wrap(texto), sb);
+		}
+		catch (IOException exception) {
+			throw new UncheckedIOException(exception);	// StringBuilder never throws it
+		}
+		
+		return sb.toString();
+	}
+	
+	/** Oculta os dados pessoais lidos de um {@link Reader}, escrevendo o resultado em <code>saida</code>.
+	 *  O reader não é fechado por este método.
+	 *  @param entrada - texto livre
+	 *  @param saida - destino do texto com os dados pessoais ocultos
+	 *  @return A quantidade de dados pessoais ocultados.
+	 *  @throws IOException if the input could not be read or the output could not be written. */
+	public long redige(final Reader entrada, final Appendable saida) throws IOException {
+		
+		final char[] buffer = new char[TAMANHO_LEITURA];
+		final Estado estado = new Estado(saida);
+		final CharBuffer texto = CharBuffer.wrap(buffer);
+		
+		int lidos;
+		
+		while ((lidos = entrada.read(buffer)) >= 0)
+			estado.processa(buffer, texto, 0, lidos);
+		
+		return estado.finaliza();
+	}
+	
+	/** Oculta os dados pessoais dos caracteres restantes de um {@link CharBuffer}, escrevendo o resultado em <code>saida</code>.
+	 *  @param entrada - texto livre (é consumido até o fim)
+	 *  @param saida - destino do texto com os dados pessoais ocultos
+	 *  @return A quantidade de dados pessoais ocultados.
+	 *  @throws IOException if the output could not be written. */
+	public long redige(final CharBuffer entrada, final Appendable saida) throws IOException {
+		
+		final Estado estado = new Estado(saida);
+		
+		if (entrada.hasArray()) {
+			
+			final int inicio = entrada.arrayOffset() + entrada.position();
+			
+			estado.processa(entrada.array(), CharBuffer.wrap(entrada.array()), inicio, entrada.remaining());
+			entrada.position(entrada.limit());
+		}
+		else {
+			
+			final char[] buffer = new char[TAMANHO_LEITURA];
+			final CharBuffer texto = CharBuffer.wrap(buffer);
+			
+			while (entrada.hasRemaining()) {
+				
+				final int lidos = Math.min(buffer.length, entrada.remaining());
+				
+				entrada.get(buffer, 0, lidos);
+				estado.processa(buffer, texto, 0, lidos);
+			}
+		}
+		
+		return estado.finaliza();
+	}
+	
+	/**************************** Internal Methods Section ***************************************/
+	
+	/** @return 'true' se 'c' pode fazer parte de um documento ou telefone (dígito ou separador). */
+	private static boolean sequencia(final char c) {
+		return ((c >= '0') && (c <= '9')) || (c == '.') || (c == '-') || (c == '/') || (c == '(') || (c == ')') || (c == ' ');
+	}
+	
+	/** @return 'true' se 'c' é um dígito ASCII. */
+	private static boolean digito(final char c) {
+		return (c >= '0') && (c <= '9');
+	}
+	
+	/** Estado de uma leitura: a sequência de dígitos e separadores em análise e os seus grupos de dígitos. */
+	private class Estado {
+		
+		private final Appendable saida;
+		
+		// Sequência em análise e a sua visão como CharSequence, para a escrita sem cópias
+		private final char[] sequencia = new char[LIMITE];
+		private final CharBuffer visao = CharBuffer.wrap(sequencia);
+		private int tamanho;
+		
+		// Grupos de dígitos da sequência: [inicio, fim)
+		private final int[] inicio = new int[LIMITE], fim = new int[LIMITE];
+		private int grupos;
+		
+		// Caractere anterior à sequência e quantidade de ocorrências encontradas
+		private char anterior = ' ';
+		private long ocorrencias;
+		
+		private Estado(final Appendable saida) {
+			this.saida = saida;
+		}
+		
+		/** Processa buffer[offset, offset+length), cuja visão como CharSequence é 'texto'. */
+		private void processa(final char[] buffer, final CharBuffer texto, final int offset, final int length) throws IOException {
+			
+			int plano = offset;		// início do texto comum ainda não escrito
+			
+			for (int i=offset, ate = offset + length; i<ate; i++) {
+				
+				final char c = buffer[i];
+				
+				if (tamanho == 0) {
+					
+					// Uma nova sequência sempre começa por um dígito ou por '(' (DDD)
+					if (digito(c) || (c == '(')) {
+						
+						saida.append(texto, plano, i);
+						
+						if (i > plano)
+							anterior = buffer[i-1];
+						
+						sequencia[tamanho++] = c;
+					}
+				}
+				
+				else if (sequencia(c)) {
+					
+					if (tamanho == LIMITE)
+						esvazia(false, c);
+					
+					sequencia[tamanho++] = c;
+				}
+				
+				else {
+					esvazia(true, c);
+					plano = i;
+				}
+			}
+			
+			if (tamanho == 0) {
+				
+				saida.append(texto, plano, offset + length);
+				
+				if (offset + length > plano)
+					anterior = buffer[offset + length - 1];
+			}
+		}
+		
+		/** Processa a sequência pendente no fim do texto.
+		 *  @return A quantidade total de ocorrências. */
+		private long finaliza() throws IOException {
+			
+			if (tamanho > 0)
+				esvazia(true, ' ');
+			
+			return ocorrencias;
+		}
+		
+		/** Oculta as ocorrências da sequência e a escreve na saída.
+		 *  @param completa - 'true' se a sequência terminou ou 'false' se ela atingiu o limite do buffer
+		 *  @param proximo - caractere seguinte à sequência */
+		private void esvazia(final boolean completa, final char proximo) throws IOException {
+			
+			agrupa();
+			
+			// Sequência incompleta: apenas a parte anterior ao último grupo dentro do retrocesso é escrita
+			int corte = tamanho;
+			
+			if (!completa) {
+				
+				corte = LIMITE - RETROCESSO;
+				
+				for (int g=0; g<grupos; g++)
+					if (inicio[g] >= LIMITE - RETROCESSO) {
+						corte = inicio[g];
+						break;
+					}
+			}
+			
+			int g = 0;
+			
+			while (g < grupos) {
+				
+				// Os grupos a partir do corte serão analisados na próxima vez
+				if (inicio[g] >= corte)
+					break;
+				
+				final int ultimo = procura(g, completa ? proximo : 'x');
+				
+				if (ultimo < 0) {
+					g++;
+					continue;
+				}
+				
+				// Ocorrência cortada ao meio: ela fica inteira para a próxima vez
+				if (fim[ultimo] > corte) {
+					corte = inicio[g];
+					break;
+				}
+				
+				for (int i=inicio[g]; i<fim[ultimo]; i++)
+					if (digito(sequencia[i]))
+						sequencia[i] = mascara;
+				
+				ocorrencias++;
+				g = ultimo + 1;
+			}
+			
+			saida.append(visao, 0, corte);
+			
+			anterior = sequencia[corte - 1];
+			tamanho -= corte;
+			System.arraycopy(sequencia, corte, sequencia, 0, tamanho);
+		}
+		
+		/** Separa a sequência em grupos de dígitos. */
+		private void agrupa() {
+			
+			grupos = 0;
+			
+			for (int i=0; i<tamanho; i++) {
+				
+				if (!digito(sequencia[i]))
+					continue;
+				
+				inicio[grupos] = i;
+				
+				while ((i < tamanho) && digito(sequencia[i]))
+					i++;
+				
+				fim[grupos++] = i;
+			}
+		}
+		
+		/** Procura um documento ou telefone que comece no grupo 'g'.
+		 *  @param proximo - caractere seguinte à sequência (usado quando a ocorrência termina junto com ela)
+		 *  @return O último grupo da ocorrência, ou -1 se nenhuma ocorrência começa no grupo 'g'. */
+		private int procura(final int g, final char proximo) {
+			
+			// Documentos grudados em letras (ex.: códigos de protocolo) são ignorados
+			if ((g == 0) && Character.isLetterOrDigit(anterior))
+				return -1;
+			
+			int ultimo;
+			
+			if (cnpj && ((ultimo = formato(g, proximo, GRUPOS_CNPJ, SEPARADORES_CNPJ)) >= 0) && DocumentValidator.cnpj(sequencia, inicio[g], fim[ultimo] - inicio[g]).isValid())
+				return ultimo;
+			
+			if (cpf && ((ultimo = formato(g, proximo, GRUPOS_CPF, SEPARADORES_CPF)) >= 0) && DocumentValidator.cpf(sequencia, inicio[g], fim[ultimo] - inicio[g]).isValid())
+				return ultimo;
+			
+			if (pis && ((ultimo = formato(g, proximo, GRUPOS_PIS, SEPARADORES_CPF)) >= 0) && DocumentValidator.pis(sequencia, inicio[g], fim[ultimo] - inicio[g]).isValid())
+				return ultimo;
+			
+			// Documentos sem máscara: um único grupo de dígitos
+			if (livre(g, g, proximo)) {
+				
+				final int digitos = fim[g] - inicio[g];
+				
+				if (cnpj && (digitos == 14) && DocumentValidator.cnpj(sequencia, inicio[g], digitos).isValid())
+					return g;
+				
+				if (cpf && (digitos == 11) && DocumentValidator.cpf(sequencia, inicio[g], digitos).isValid())
+					return g;
+				
+				if (pis && (digitos == 11) && DocumentValidator.pis(sequencia, inicio[g], digitos).isValid())
+					return g;
+			}
+			
+			return telefone ? telefone(g, proximo) : -1;
+		}
+		
+		/** Procura um telefone que comece no grupo 'g'. Como telefones não possuem dígitos verificadores, são aceitos
+		 *  apenas DDDs sem zeros, celulares de 9 dígitos iniciados por 9 e números de 8 dígitos iniciados de 2 a 9.
+		 *  @return O último grupo do telefone, ou -1 se não houver. */
+		private int telefone(final int g, final char proximo) {
+			
+			final int digitos = fim[g] - inicio[g];
+			
+			// Com DDD: (92) 99999-8888, (92)9999-8888, (92) 999998888 ou 92 99999-8888
+			if ((digitos == 2) && ddd(inicio[g]) && (g + 1 < grupos)) {
+				
+				final boolean parenteses = (inicio[g] > 0) && (sequencia[inicio[g] - 1] == '(') && (separador(g + 1, ')') ||
+										   ((inicio[g + 1] - fim[g] == 2) && (sequencia[fim[g]] == ')') && (sequencia[fim[g] + 1] == ' ')));
+				
+				if (parenteses && livre(g + 1, g + 1, proximo) && assinante(sequencia[inicio[g + 1]], fim[g + 1] - inicio[g + 1]))
+					return g + 1;
+				
+				if ((parenteses || separador(g + 1, ' ')) && (g + 2 < grupos) && assinante(g + 1, proximo))
+					return g + 2;
+			}
+			
+			// Sem DDD: 99999-8888 ou 9999-8888
+			if ((g + 1 < grupos) && assinante(g, proximo))
+				return g + 1;
+			
+			// Apenas dígitos, com DDD: 92999998888 ou 9236248888
+			if (((digitos == 10) || (digitos == 11)) && livre(g, g, proximo) && ddd(inicio[g]) && assinante(sequencia[inicio[g] + 2], digitos - 2))
+				return g;
+			
+			return -1;
+		}
+		
+		/** @return 'true' se os grupos 'g' e 'g+1' formam um número de telefone sem DDD (4 ou 5 dígitos, '-' e 4 dígitos). */
+		private boolean assinante(final int g, final char proximo) {
+			
+			final int digitos = fim[g] - inicio[g];
+			
+			return ((digitos == 4) || (digitos == 5)) && (fim[g + 1] - inicio[g + 1] == 4) && separador(g + 1, '-')
+					&& livre(g, g + 1, proximo) && assinante(sequencia[inicio[g]], digitos + 4);
+		}
+		
+		/** @return 'true' se um número com o 'primeiro' dígito e a quantidade de 'digitos' informados pode ser um
+		 *  telefone sem DDD: 9 dígitos iniciados por 9 ou 8 dígitos iniciados de 2 a 9. */
+		private boolean assinante(final char primeiro, final int digitos) {
+			return (digitos == 9) ? (primeiro == '9') : (digitos == 8) && (primeiro >= '2');
+		}
+		
+		/** @return 'true' se os dois dígitos a partir de 'posicao' formam um DDD (11 a 99, sem zeros). */
+		private boolean ddd(final int posicao) {
+			return (sequencia[posicao] != '0') && (sequencia[posicao + 1] != '0');
+		}
+		
+		/** Verifica se os grupos a partir de 'g' seguem as quantidades de dígitos e os separadores informados.
+		 *  @return O último grupo do formato, ou -1 se os grupos não seguem o formato. */
+		private int formato(final int g, final char proximo, final int[] digitos, final char[] separadores) {
+			
+			final int ultimo = g + digitos.length - 1;
+			
+			if (ultimo >= grupos)
+				return -1;
+			
+			for (int i=0; i<digitos.length; i++) {
+				
+				if (fim[g + i] - inicio[g + i] != digitos[i])
+					return -1;
+				
+				if ((i > 0) && !separador(g + i, separadores[i - 1]))
+					return -1;
+			}
+			
+			return livre(g, ultimo, proximo) ? ultimo : -1;
+		}
+		
+		/** @return 'true' se o texto entre os grupos 'g-1' e 'g' é exatamente o separador informado. */
+		private boolean separador(final int g, final char separador) {
+			return (inicio[g] - fim[g - 1] == 1) && (sequencia[fim[g - 1]] == separador);
+		}
+		
+		/** Verifica se os grupos [g, ultimo] não estão grudados em letras ou em outros números com um separador simples,
+		 *  como em 1.123.456.789-09 ou 11222333000181-7. Espaços e parênteses não unem números.
+		 *  @param proximo - caractere seguinte à sequência */
+		private boolean livre(final int g, final int ultimo, final char proximo) {
+			
+			if ((g > 0) && (inicio[g] - fim[g - 1] == 1) && !quebra(sequencia[fim[g - 1]]))
+				return false;
+			
+			// O último grupo termina a sequência: o próximo caractere não pode ser letra
+			if (fim[ultimo] == tamanho)
+				return !Character.isLetterOrDigit(proximo);
+			
+			return (ultimo + 1 >= grupos) || (inicio[ultimo + 1] - fim[ultimo] != 1) || quebra(sequencia[fim[ultimo]]);
+		}
+		
+		/** @return 'true' se o separador 'c' não une dois números. */
+		private boolean quebra(final char c) {
+			return (c == ' ') || (c == '(') || (c == ')');
+		}
+	
+	}
+
+}
@@ -1,6 +1,5 @@
 package com.phill.libs.br;
 
-import java.awt.Color;
 import javax.swing.JFormattedTextField;
 
 import com.phill.libs.StringUtils;
@@ -12,7 +11,7 @@ import com.phill.libs.ui.GraphicsHelper;
  *  contrário, muda para 'vermelho'. Se o PIS digitado esti
  *  ver incompleto, o campo permanece em 'branco'.
  *  @author Felipe André - felipeandre.eng@gmail.com
- *  @version 2.6, 24/APR/2020
+ *  @version 2.7, 18/OCT/2026
  *  @see JFormattedTextField  */
 public class PISTextField extends BRTextField {
 
@@ -27,20 +26,7 @@ public class PISTextField extends BRTextField {
 	
 	@Override
 	protected void parse() {
-
-		final String pis = StringUtils.extractNumbers(getText());
-		
-		if (pis.length() == 11) {
-			
-			if (PISParser.parse(pis))
-				setBackground(super.gr_lt);
-			else
-				setBackground(super.rd_lt);
-			
-		}
-		else
-			setBackground(Color.WHITE);
-		
+		pinta(DocumentValidator.pis(getText()));
 	}
 	
 	/** Retorna o texto preenchido com ou sem máscara */
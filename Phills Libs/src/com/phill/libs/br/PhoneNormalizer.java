@@ -0,0 +1,235 @@
+package com.phill.libs.br;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/** Implementa a normalização de números de telefone brasileiros para apenas dígitos, sempre com DDD.<br>
+ *  O número é lido em uma única passada, sem expressões regulares e sem objetos intermediários. São configuráveis:<br>
+ *  1. O DDD padrão, adicionado aos números informados sem DDD;<br>
+ *  2. Os dígitos iniciais que identificam um celular (padrão: 8 e 9);<br>
+ *  3. A política do nono dígito dos celulares ({@link NonoDigito});<br>
+ *  4. O dígito adicionado aos telefones fixos antigos, de 7 dígitos (padrão: 3).<br>
+ *  Instâncias desta classe são imutáveis e podem ser compartilhadas entre threads.
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026
+ *  @see PhoneNumberUtils#extractNumber(String) */
+public class PhoneNormalizer {
+	
+	/** Política de tratamento do nono dígito dos celulares. */
+	public enum NonoDigito {
+		
+		/** Adiciona o nono dígito aos celulares com 8 dígitos. */
+		ADICIONA,
+		
+		/** Mantém os celulares como foram informados. */
+		MANTEM,
+		
+		/** Remove o nono dígito dos celulares com 9 dígitos. */
+		REMOVE
+	
+	}
+	
+	/** Normalizador com as regras de {@link PhoneNumberUtils#extractNumber(String)}: DDD 92, celulares iniciados
+	 *  em 8 ou 9, nono dígito adicionado e fixos antigos prefixados com 3. */
+	public static final PhoneNormalizer PADRAO = new PhoneNormalizer("92");
+	
+	// Potências de 10 usadas para ler um dígito qualquer do número acumulado
+	private static final long[] POTENCIAS = new long[12];
+	
+	static {
+		
+		POTENCIAS[0] = 1;
+		
+		for (int i=1; i<POTENCIAS.length; i++)
+			POTENCIAS[i] = POTENCIAS[i-1] * 10;
+	}
+	
+	private final char ddd0, ddd1, prefixoFixo;
+	private final boolean[] moveis = new boolean[10];
+	private final NonoDigito nonoDigito;
+	
+	/** Cria um normalizador com o DDD padrão informado e as demais regras padrão.
+	 *  @param ddd - DDD padrão (2 dígitos) */
+	public PhoneNormalizer(final String ddd) {
+		this(ddd, "89", NonoDigito.ADICIONA, '3');
+	}
+	
+	/** Cria um normalizador.
+	 *  @param ddd - DDD padrão (2 dígitos)
+	 *  @param prefixosMoveis - dígitos iniciais dos celulares (ex.: "89")
+	 *  @param nonoDigito - política do nono dígito
+	 *  @param prefixoFixo - dígito adicionado aos fixos antigos com 7 dígitos, ou '\0' para rejeitá-los */
+	public PhoneNormalizer(final String ddd, final String prefixosMoveis, final NonoDigito nonoDigito, final char prefixoFixo) {
+		
+		if ((ddd == null) || (ddd.length() != 2) || !digito(ddd.charAt(0)) || !digito(ddd.charAt(1)))
+			throw new IllegalArgumentException("DDD inválido: " + ddd);
+		
+		if ((prefixoFixo != 0) && !digito(prefixoFixo))
+			throw new IllegalArgumentException("Prefixo de telefone fixo inválido: " + prefixoFixo);
+		
+		for (int i=0; i<prefixosMoveis.length(); i++) {
+			
+			if (!digito(prefixosMoveis.charAt(i)))
+				throw new IllegalArgumentException("Prefixo de celular inválido: " + prefixosMoveis.charAt(i));
+			
+			this.moveis[prefixosMoveis.charAt(i) - '0'] = true;
+		}
+		
+		this.ddd0 = ddd.charAt(0);
+		this.ddd1 = ddd.charAt(1);
+		this.nonoDigito  = nonoDigito;
+		this.prefixoFixo = prefixoFixo;
+	}
+	
+	/** Normaliza um número de telefone.
+	 *  @param contato - número de telefone com ou sem máscara, aqui apenas os dígitos são considerados
+	 *  @return String contendo apenas os dígitos do telefone com DDD, ou 'null' se o número não for reconhecido. */
+	public String normaliza(final CharSequence contato) {
+		
+		if (contato == null)
+			return null;
+		
+		final StringBuilder sb = new StringBuilder(11);
+		
+		return normaliza(contato, sb) ? sb.toString() : null;
+	}
+	
+	/** Normaliza um número de telefone, escrevendo o resultado no <code>sb</code> informado.
+	 *  @param contato - número de telefone com ou sem máscara, aqui apenas os dígitos são considerados
+	 *  @param sb - buffer de saída, pode ser reaproveitado entre chamadas
+	 *  @return 'true' se o número foi reconhecido (e escrito em <code>sb</code>) ou 'false' caso contrário. */
+	public boolean normaliza(final CharSequence contato, final StringBuilder sb) {
+		
+		if (contato == null)
+			return false;
+		
+		long numero = 0;
+		int quantidade = 0;
+		boolean zerosUns = true;
+		
+		// Única passada: os dígitos são acumulados em um long (no máximo 11, o resto é descartado)
+		for (int i=0; i<contato.length(); i++) {
+			
+			final char c = contato.charAt(i);
+			
+			if (!digito(c))
+				continue;
+			
+			if (++quantidade > 11)
+				return false;
+			
+			numero = numero * 10 + (c - '0');
+			zerosUns &= (c <= '1');
+		}
+		
+		// Números compostos apenas por zeros e uns são descartados
+		if ((quantidade < 7) || zerosUns)
+			return false;
+		
+		switch (quantidade) {
+			
+			// Telefones fixos antigos. Ex.: 624-5097
+			case 7:
+				
+				if (prefixoFixo == 0)
+					return false;
+				
+				sb.append(ddd0).append(ddd1).append(prefixoFixo);
+				return anexa(sb, numero, 7, 0, 7);
+			
+			// Telefones sem DDD, fixos ou celulares sem o nono dígito
+			case 8:
+				
+				sb.append(ddd0).append(ddd1);
+				
+				if ((nonoDigito == NonoDigito.ADICIONA) && movel(numero, 8, 0))
+					sb.append('9');
+				
+				return anexa(sb, numero, 8, 0, 8);
+			
+			// Celulares com o nono dígito, porém, sem DDD
+			case 9:
+				
+				sb.append(ddd0).append(ddd1);
+				
+				if ((nonoDigito == NonoDigito.REMOVE) && nono(numero, 9, 0))
+					return anexa(sb, numero, 9, 1, 9);
+				
+				return anexa(sb, numero, 9, 0, 9);
+			
+			// Telefones com DDD, fixos ou celulares sem o nono dígito
+			case 10:
+				
+				if ((nonoDigito == NonoDigito.ADICIONA) && movel(numero, 10, 2)) {
+					anexa(sb, numero, 10, 0, 2);
+					sb.append('9');
+					
+					return anexa(sb, numero, 10, 2, 10);
+				}
+				
+				return anexa(sb, numero, 10, 0, 10);
+			
+			// Celulares com DDD e nono dígito
+			default:
+				
+				if ((nonoDigito == NonoDigito.REMOVE) && nono(numero, 11, 2)) {
+					anexa(sb, numero, 11, 0, 2);
+					return anexa(sb, numero, 11, 3, 11);
+				}
+				
+				return anexa(sb, numero, 11, 0, 11);
+		}
+	}
+	
+	/** Normaliza todos os <code>contatos</code> informados em paralelo.
+	 *  @param contatos - vetor de números de telefone
+	 *  @return Um novo vetor com os números normalizados (ou 'null' nos não reconhecidos), na mesma ordem do vetor informado. */
+	public String[] normaliza(final String[] contatos) {
+		
+		final String[] normalizados = new String[contatos.length];
+		
+		Arrays.parallelSetAll(normalizados, i -> normaliza(contatos[i]));
+		
+		return normalizados;
+	}
+	
+	/** Normaliza todos os <code>contatos</code> informados em paralelo, mantendo a ordem original.
+	 *  @param contatos - lista de números de telefone
+	 *  @return Uma lista com os números normalizados (ou 'null' nos não reconhecidos), na mesma ordem da lista informada. */
+	public List<String> normaliza(final List<? extends CharSequence> contatos) {
+		return contatos.parallelStream().map(this::normaliza).collect(Collectors.toList());
+	}
+	
+	/**************************** Internal Methods Section ***************************************/
+	
+	/** @return O dígito da posição 'posicao' (da esquerda para a direita) de um 'numero' com 'quantidade' dígitos. */
+	private static int digito(final long numero, final int quantidade, final int posicao) {
+		return (int) ((numero / POTENCIAS[quantidade - posicao - 1]) % 10);
+	}
+	
+	/** @return 'true' se o dígito da posição 'posicao' identifica um celular. */
+	private boolean movel(final long numero, final int quantidade, final int posicao) {
+		return moveis[digito(numero, quantidade, posicao)];
+	}
+	
+	/** @return 'true' se há um nono dígito (9 seguido do dígito inicial de um celular) na posição 'posicao'. */
+	private boolean nono(final long numero, final int quantidade, final int posicao) {
+		return (digito(numero, quantidade, posicao) == 9) && movel(numero, quantidade, posicao + 1);
+	}
+	
+	/** Anexa os dígitos das posições [inicio, fim) de um 'numero' com 'quantidade' dígitos ao 'sb'. */
+	private static boolean anexa(final StringBuilder sb, final long numero, final int quantidade, final int inicio, final int fim) {
+		
+		for (int i=inicio; i<fim; i++)
+			sb.append((char) ('0' + digito(numero, quantidade, i)));
+		
+		return true;
+	}
+	
+	/** @return 'true' se 'c' é um dígito ASCII. */
+	private static boolean digito(final char c) {
+		return (c >= '0') && (c <= '9');
+	}
+
+}
@@ -1,55 +1,16 @@
 package com.phill.libs.br;
 
-import com.phill.libs.StringUtils;
-
 /** Implementa alguns métodos de tratamento de dados para números de telefone brasileiros.
  *  @author Felipe André - felipeandre.eng@gmail.com
- *  @version 1.5, 25/SET/2021 */
+ *  @version 1.7, 18/OCT/2026 */
 public class PhoneNumberUtils {
 
 	/** Faz o tratamento dos diversos tipos de contatos existentes e retorna apenas os números (com DDD).
+	 *  Os números sem DDD recebem o DDD 92. Para outros DDDs e regras, utilize um {@link PhoneNormalizer}.
 	 *  @param contato - número de telefone com ou sem máscara, aqui apenas os dígitos são extraídos
 	 *  @return String contendo apenas os números de telefone. */
 	public static String extractNumber(final String contato) {
-		
-		if (contato != null) {
-			
-			// Aqui faço a extração dos dígitos do contato
-			String aux = StringUtils.extractNumbers(contato);
-			
-			// Verifica se o número é composto apenas por zeros
-			if (aux.matches("^[01]+$"))
-				return null;
-			
-			// Tratamento para telefones convencionais antigos. Ex.: 624-5097
-			if (aux.length() == 7)
-				return String.format("923%s",aux);
-			
-			// Tratamento para números de telefone sem DDD
-			if (aux.length() == 8)
-				if ((aux.charAt(0) == '9') || (aux.charAt(0) == '8'))	// Se celular, adiciono o DDD 92 e o nono dígito...
-						return String.format("929%s",aux);
-				else
-					return String.format("92%s",aux);		// ... senão adiciono apenas o DDD
-			
-			// Tratamento para números de celular com o nono dígito, porém, sem DDD
-			if (aux.length() == 9)
-				return String.format("92%s",aux);
-			
-			// Tratamento para números de telefone com DDD
-			if (aux.length() == 10)
-				if ((aux.charAt(2) == '9') || (aux.charAt(2) == '8'))	// Se celular, adiciono o nono dígito...
-					return String.format("%s9%s",aux.substring(0,2),aux.substring(2));
-				else
-					return aux;	// ... senão o contato já está no formato correto
-			
-			// Tratamento para números de celular com DDD e nono dígito
-			if (aux.length() == 11)
-				return aux;
-			
-		}
-		
-		return null;
+		return PhoneNormalizer.PADRAO.normaliza(contato);
 	}
 	
 	/** Recupera um contato e formata com a máscara de contatos (sempre com DDD).
@@ -57,17 +18,7 @@ public class PhoneNumberUtils {
 	 *  @return Uma string com o número de telefone com máscara. */
 	public static String format(final String contato) {
 		
-		if (contato != null) {
-				
-			if (contato.length() == 10)
-				return String.format("(%s) %s-%s",contato.substring(0,2),contato.substring(2,6),contato.substring(6));
-				
-			if (contato.length() == 11)
-				return String.format("(%s) %s-%s",contato.substring(0,2),contato.substring(2,7),contato.substring(7));
-			
-		}
-		
-		return contato;
+		return DocumentFormatter.telefone(contato);
 	}
 	
 }
@@ -0,0 +1,58 @@
+package com.phill.libs.br;
+
+/** Unidades federativas do Brasil, com as respectivas regiões.
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026
+ *  @see CEPIndex */
+public enum UF {
+	
+	AC("Acre", Regiao.NORTE),
+	AL("Alagoas", Regiao.NORDESTE),
+	AP("Amapá", Regiao.NORTE),
+	AM("Amazonas", Regiao.NORTE),
+	BA("Bahia", Regiao.NORDESTE),
+	CE("Ceará", Regiao.NORDESTE),
+	DF("Distrito Federal", Regiao.CENTRO_OESTE),
+	ES("Espírito Santo", Regiao.SUDESTE),
+	GO("Goiás", Regiao.CENTRO_OESTE),
+	MA("Maranhão", Regiao.NORDESTE),
+	MT("Mato Grosso", Regiao.CENTRO_OESTE),
+	MS("Mato Grosso do Sul", Regiao.CENTRO_OESTE),
+	MG("Minas Gerais", Regiao.SUDESTE),
+	PA("Pará", Regiao.NORTE),
+	PB("Paraíba", Regiao.NORDESTE),
+	PR("Paraná", Regiao.SUL),
+	PE("Pernambuco", Regiao.NORDESTE),
+	PI("Piauí", Regiao.NORDESTE),
+	RJ("Rio de Janeiro", Regiao.SUDESTE),
+	RN("Rio Grande do Norte", Regiao.NORDESTE),
+	RS("Rio Grande do Sul", Regiao.SUL),
+	RO("Rondônia", Regiao.NORTE),
+	RR("Roraima", Regiao.NORTE),
+	SC("Santa Catarina", Regiao.SUL),
+	SP("São Paulo", Regiao.SUDESTE),
+	SE("Sergipe", Regiao.NORDESTE),
+	TO("Tocantins", Regiao.NORTE);
+	
+	/** Regiões do Brasil. */
+	public enum Regiao { NORTE, NORDESTE, CENTRO_OESTE, SUDESTE, SUL }
+	
+	private final String nome;
+	private final Regiao regiao;
+	
+	UF(final String nome, final Regiao regiao) {
+		this.nome   = nome;
+		this.regiao = regiao;
+	}
+	
+	/** @return O nome por extenso desta UF. */
+	public String getNome() {
+		return nome;
+	}
+	
+	/** @return A região desta UF. */
+	public Regiao getRegiao() {
+		return regiao;
+	}
+
+}
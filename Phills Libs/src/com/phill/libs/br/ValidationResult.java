@@ -0,0 +1,26 @@
+package com.phill.libs.br;
+
+/** Resultado da validação de um documento brasileiro (CPF, CNPJ ou PIS).
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026
+ *  @see DocumentValidator */
+public enum ValidationResult {
+	
+	/** Documento válido. */
+	VALID,
+	
+	/** Quantidade de dígitos diferente da esperada pelo documento (ou documento nulo). */
+	BAD_LENGTH,
+	
+	/** Todos os dígitos são iguais (ex.: 111.111.111-11), o que é rejeitado mesmo com os dígitos verificadores corretos. */
+	REPEATED_DIGITS,
+	
+	/** Ao menos um dos dígitos verificadores não confere. */
+	BAD_CHECK_DIGIT;
+	
+	/** @return 'true' se este resultado é {@link #VALID}. */
+	public boolean isValid() {
+		return this == VALID;
+	}
+
+}
@@ -0,0 +1,220 @@
+package com.phill.libs.br;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/** Implementa a conversão de valores monetários (R$) para texto por extenso.<br>
+ *  Todas as tabelas de palavras são estáticas e o extenso de cada grupo de três dígitos (1 a 999) é pré-calculado,
+ *  de modo que a conversão de um valor apenas concatena alguns trechos prontos em um {@link StringBuilder}.
+ *  Os valores com até R$ 99,99 ficam guardados em cache após a primeira conversão.<br>
+ *  Nota: são suportados valores até 999 trilhões de reais e o sinal do valor é ignorado.
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026
+ *  @see com.phill.libs.StringUtils.BR#praReais(double) */
+public final class ValorExtenso {
+	
+	// Mensagem retornada quando o valor ultrapassa o limite suportado
+	private static final String ERRO_LIMITE = "Erro: valor superior a 999 trilhões.";
+	
+	// Maior parte inteira suportada (999 trilhões)
+	private static final long LIMITE = 999_999_999_999_999L;
+	
+	private static final String[] UNIDADE = {"", "um", "dois", "três", "quatro", "cinco",
+											 "seis", "sete", "oito", "nove", "dez", "onze",
+											 "doze", "treze", "quatorze", "quinze", "dezesseis",
+											 "dezessete", "dezoito", "dezenove"};
+	private static final String[] CENTENA = {"", "cento", "duzentos", "trezentos",
+											 "quatrocentos", "quinhentos", "seiscentos",
+											 "setecentos", "oitocentos", "novecentos"};
+	private static final String[] DEZENA  = {"", "", "vinte", "trinta", "quarenta", "cinquenta",
+											 "sessenta", "setenta", "oitenta", "noventa"};
+	private static final String[] QUALIFICA_S = {"", "mil", "milhão", "bilhão", "trilhão"};
+	private static final String[] QUALIFICA_P = {"", "mil", "milhões", "bilhões", "trilhões"};
+	
+	// Extenso de cada grupo de três dígitos (o índice é o próprio número)
+	private static final String[] GRUPO = criaGrupos();
+	
+	// Cache dos valores mais comuns (até R$ 99,99), indexado pelos centavos
+	private static final int TAMANHO_CACHE = 10_000;
+	private static final AtomicReferenceArray<String> CACHE = new AtomicReferenceArray<String>(TAMANHO_CACHE);
+	
+	/** Construtor privado, esta é uma classe utilitária. */
+	private ValorExtenso() { }
+	
+	/** Converte um valor em reais para texto por extenso, arredondando os centavos para cima a partir da metade.
+	 *  @param valor - valor a ser convertido
+	 *  @return O texto por extenso referente ao valor informado. */
+	public static String extenso(final BigDecimal valor) {
+		
+		final BigDecimal centavos = valor.abs().setScale(2, RoundingMode.HALF_UP).movePointRight(2);
+		
+		// Evita o estouro de 'long' em valores absurdos
+		if (centavos.compareTo(BigDecimal.valueOf(LIMITE).movePointRight(2).add(BigDecimal.valueOf(99))) > 0)
+			return ERRO_LIMITE;
+		
+		return extenso(centavos.longValueExact());
+	}
+	
+	/** Converte um valor em centavos para texto por extenso.
+	 *  @param centavos - valor em centavos (ex.: 12345 para R$ 123,45)
+	 *  @return O texto por extenso referente ao valor informado. */
+	public static String extenso(final long centavos) {
+		
+		final long valor = Math.abs(centavos);
+		
+		if ((valor >= 0) && (valor < TAMANHO_CACHE)) {
+			
+			String texto = CACHE.get((int) valor);
+			
+			if (texto == null) {
+				texto = extenso(valor, new StringBuilder(64)).toString();
+				CACHE.set((int) valor, texto);
+			}
+			
+			return texto;
+		}
+		
+		return extenso(valor, new StringBuilder(128)).toString();
+	}
+	
+	/** Escreve o extenso de um valor em centavos no <code>sb</code> informado.
+	 *  @param centavos - valor em centavos (ex.: 12345 para R$ 123,45)
+	 *  @param sb - buffer de saída, pode ser reaproveitado entre chamadas
+	 *  @return O próprio <code>sb</code>. */
+	public static StringBuilder extenso(final long centavos, final StringBuilder sb) {
+		
+		final long valor   = Math.abs(centavos);
+		final long inteiro = valor / 100;
+		final int  cents   = (int) (valor % 100);
+		
+		// O código acaba aqui se o valor for zero
+		if (valor == 0)
+			return sb.append("zero");
+		
+		// Valor limite suportado
+		if (inteiro > LIMITE || valor < 0)
+			return sb.append(ERRO_LIMITE);
+		
+		final int inicio = sb.length();
+		
+		if (inteiro > 0) {
+			
+			// Escrevo os grupos de três dígitos do mais significativo para o menos, por exemplo, para 123456789:
+			// 1o. grupo = 123 (milhões)
+			// 2o. grupo = 456 (mil)
+			// 3o. grupo = 789 (centena)
+			long divisor = 1_000_000_000_000L;
+			
+			for (int i = 4; i >= 0; i--, divisor /= 1000) {
+				
+				final int grupo = (int) ((inteiro / divisor) % 1000);
+				
+				if (grupo == 0)
+					continue;
+				
+				if (sb.length() != inicio)
+					sb.append(", ");
+				
+				sb.append(GRUPO[grupo]);
+				
+				if (i != 0)
+					sb.append(' ').append((grupo == 1) ? QUALIFICA_S[i] : QUALIFICA_P[i]);
+			}
+			
+			final int ultimos = (int) (inteiro % 1_000_000);
+			
+			if (ultimos % 1000 == 1)		// 1a. parte do valor igual a um (um real)
+				sb.append(" real");
+			else if (ultimos != 0)			// tem centena ou mil no valor
+				sb.append(" reais");
+			else
+				sb.append(" de reais");
+		}
+		
+		// Definindo o extenso dos centavos do valor
+		if (cents != 0) {
+			
+			if (inteiro != 0)		// se não é valor somente com centavos
+				sb.append(" e ");
+			
+			if (cents == 1)
+				sb.append("um centavo");
+			else
+				sb.append(GRUPO[cents]).append(" centavos");
+		}
+		
+		return sb;
+	}
+	
+	/** Converte uma lista de valores (ex.: uma remessa inteira de notas) para texto por extenso.
+	 *  @param valores - lista de valores
+	 *  @return Uma lista com os textos por extenso, na mesma ordem dos valores informados. */
+	public static List<String> extenso(final List<BigDecimal> valores) {
+		
+		final List<String> textos = new ArrayList<String>(valores.size());
+		
+		for (BigDecimal valor: valores)
+			textos.add((valor == null) ? null : extenso(valor));
+		
+		return textos;
+	}
+	
+	/** Converte um vetor de valores em centavos para texto por extenso, reaproveitando um único buffer.
+	 *  @param centavos - valores em centavos
+	 *  @return Um vetor com os textos por extenso, na mesma ordem dos valores informados. */
+	public static String[] extenso(final long[] centavos) {
+		
+		final String[] textos = new String[centavos.length];
+		final StringBuilder sb = new StringBuilder(128);
+		
+		for (int i=0; i<centavos.length; i++) {
+			
+			final long valor = Math.abs(centavos[i]);
+			
+			if ((valor >= 0) && (valor < TAMANHO_CACHE))
+				textos[i] = extenso(centavos[i]);
+			
+			else {
+				sb.setLength(0);
+				textos[i] = extenso(centavos[i], sb).toString();
+			}
+		}
+		
+		return textos;
+	}
+	
+	/** Monta o extenso de todos os números de 0 a 999. */
+	private static String[] criaGrupos() {
+		
+		final String[] grupos = new String[1000];
+		
+		grupos[0] = "";
+		
+		for (int n=1; n<1000; n++) {
+			
+			final int cent  = (n / 100);		// para n = 371, tem-se:
+			final int resto = (n % 100);		// cent = 3 (centena trezentos) e resto = 71
+			
+			if (n == 100) {
+				grupos[n] = "cem";
+				continue;
+			}
+			
+			final String dezenas = (resto <= 19) ? UNIDADE[resto]
+					: ((resto % 10) == 0) ? DEZENA[resto / 10] : DEZENA[resto / 10] + " e " + UNIDADE[resto % 10];
+			
+			if (cent == 0)
+				grupos[n] = dezenas;
+			else if (resto == 0)
+				grupos[n] = CENTENA[cent];
+			else
+				grupos[n] = CENTENA[cent] + " e " + dezenas;
+		}
+		
+		return grupos;
+	}
+
+}
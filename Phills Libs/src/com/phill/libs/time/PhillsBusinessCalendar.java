@@ -0,0 +1,503 @@
+package com.phill.libs.time;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.phill.libs.br.UF;
+
+/** A brazilian business-day calendar, with the national, state and Easter-based (Carnival, Good Friday and Corpus Christi)
+ *  holidays, for the years from {@link #FIRST_YEAR} to {@link #LAST_YEAR}.<br>
+ *  The holidays of each year are precomputed in a bitset, along with the prefix sums of its business days, so counting the
+ *  business days between two dates is O(1) and adding N business days to a date is O(1) amortized, with no allocations
+ *  in the epoch-day methods.<br>
+ *  The built-in holidays ({@link #getNational()} and {@link #get(UF)}) may be extended with custom holiday files
+ *  ({@link #load(Path, UF)}), with one holiday per line in the format <code>when;scope;years;description</code>:
+ *  <ul>
+ *  <li><code>when</code>: <code>dd/MM</code> (every year), <code>dd/MM/yyyy</code> (a single year) or <code>E+n</code>/<code>E-n</code> (days from Easter Sunday);</li>
+ *  <li><code>scope</code>: <code>BR</code> for national holidays or the UF of a state holiday;</li>
+ *  <li><code>years</code> (optional): the years when the holiday was observed, as <code>yyyy-</code>, <code>-yyyy</code> or <code>yyyy-yyyy</code>;</li>
+ *  <li><code>description</code> (optional): ignored.</li>
+ *  </ul>
+ *  Blank lines and lines starting with '#' are ignored. Instances of this class are immutable and may be shared between threads.<br>
+ *  Quick example:<br><br>
+ *  <code>LocalDate due = PhillsBusinessCalendar.get(UF.SP).addBusinessDays(LocalDate.now(), 10);</code>
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026
+ *  @see PhillsLocalDateUtils#getDurationDays(LocalDate, LocalDate) */
+public final class PhillsBusinessCalendar {
+	
+	/** First year covered by the calendars. */
+	public static final int FIRST_YEAR = 1900;
+	
+	/** Last year covered by the calendars. */
+	public static final int LAST_YEAR = 2199;
+	
+	// Built-in holidays
+	private static final String DEFAULT_HOLIDAYS = "/com/phill/libs/time/holidays.csv";
+	
+	private static final int YEARS = LAST_YEAR - FIRST_YEAR + 1;
+	
+	// Epoch day of the first day of each year, plus the day after the last year
+	private static final long[] YEAR_START = new long[YEARS + 1];
+	
+	static {
+		for (int i=0; i<=YEARS; i++)
+			YEAR_START[i] = PhillsLocalDateParser.epochDay(FIRST_YEAR + i, 1, 1);
+	}
+	
+	private static final UF[] UFS = UF.values();
+	
+	// Calendars of each state, built only on their first use
+	private static final AtomicReferenceArray<PhillsBusinessCalendar> STATES = new AtomicReferenceArray<PhillsBusinessCalendar>(UFS.length);
+	
+	private final UF uf;
+	
+	// Per year: bit 'i' is set when the day 'i' of the year (zero based) is a holiday
+	private final long[][] holidays;
+	
+	// Per year: business[y][i] is the number of business days of the year before its day 'i' (zero based)
+	private final char[][] business;
+	
+	// Number of business days before the first day of each year, counted from the first day of FIRST_YEAR
+	private final int[] businessBefore;
+	
+	/** Built-in holidays and national calendar, loaded only on their first use. */
+	private static class Default {
+		
+		private static final List<Holiday> HOLIDAYS = loadDefault();
+		private static final PhillsBusinessCalendar NATIONAL = new PhillsBusinessCalendar(HOLIDAYS, null);
+	
+	}
+	
+	/** A holiday rule, read from a line of a holiday file. */
+	private static final class Holiday {
+		
+		// Month is zero for Easter-based holidays, whose 'day' is an offset from Easter Sunday
+		private final int day, month, firstYear, lastYear;
+		private final UF uf;
+		
+		private Holiday(final int day, final int month, final int firstYear, final int lastYear, final UF uf) {
+			this.day = day;
+			this.month = month;
+			this.firstYear = firstYear;
+			this.lastYear = lastYear;
+			this.uf = uf;
+		}
+		
+		/** @return The epoch day of this holiday in the given 'year', or Long.MIN_VALUE if it is not observed in that year. */
+		private long epochDay(final int year, final long easter) {
+			
+			if ((year < firstYear) || (year > lastYear) || ((month == 2) && (day == 29) && (PhillsDateFormatter.daysInMonth(year, 2) < 29)))
+				return Long.MIN_VALUE;
+			
+			return (month == 0) ? easter + day : PhillsLocalDateParser.epochDay(year, month, day);
+		}
+	
+	}
+	
+	/** Internal constructor, builds the bitsets and prefix sums of all the years with the given 'rules' observed in 'uf'. */
+	private PhillsBusinessCalendar(final List<Holiday> rules, final UF uf) {
+		
+		this.uf = uf;
+		this.holidays = new long[YEARS][];
+		this.business = new char[YEARS][];
+		this.businessBefore = new int[YEARS + 1];
+		
+		for (int y=0; y<YEARS; y++) {
+			
+			final long start = YEAR_START[y];
+			final int days = (int) (YEAR_START[y + 1] - start);
+			final long easter = easter(FIRST_YEAR + y);
+			
+			final long[] bits = new long[(days + 63) >>> 6];
+			
+			for (Holiday holiday: rules) {
+				
+				if ((holiday.uf != null) && (holiday.uf != uf))
+					continue;
+				
+				final long day = holiday.epochDay(FIRST_YEAR + y, easter);
+				
+				if ((day >= start) && (day < start + days))
+					bits[(int) (day - start) >>> 6] |= 1L << (day - start);
+			}
+			
+			final char[] prefix = new char[days + 1];
+			
+			for (int i=0; i<days; i++)
+				prefix[i + 1] = (char) (prefix[i] + ((weekend(start + i) || ((bits[i >>> 6] & (1L << i)) != 0)) ? 0 : 1));
+			
+			this.holidays[y] = bits;
+			this.business[y] = prefix;
+			this.businessBefore[y + 1] = this.businessBefore[y] + prefix[days];
+		}
+	}
+	
+	/** @return The calendar with the built-in national holidays. */
+	public static PhillsBusinessCalendar getNational() {
+		return Default.NATIONAL;
+	}
+	
+	/** Retrieves the calendar of a state, with the built-in national and state holidays.
+	 *  @param uf - state, or 'null' for the national calendar
+	 *  @return The calendar of the given <code>uf</code>. */
+	public static PhillsBusinessCalendar get(final UF uf) {
+		
+		if (uf == null)
+			return getNational();
+		
+		PhillsBusinessCalendar calendar = STATES.get(uf.ordinal());
+		
+		if (calendar == null) {
+			
+			STATES.compareAndSet(uf.ordinal(), null, new PhillsBusinessCalendar(Default.HOLIDAYS, uf));
+			calendar = STATES.get(uf.ordinal());
+		}
+		
+		return calendar;
+	}
+	
+	/** Builds a calendar with the built-in holidays plus the ones of a custom holiday file.
+	 *  @param file - holiday file, in UTF-8, with one holiday per line in the format <code>when;scope;years;description</code>
+	 *  @param uf - state whose holidays are observed, or 'null' to observe only the national ones
+	 *  @return A new calendar.
+	 *  @throws IOException if the file could not be read or if it has an invalid line. */
+	public static PhillsBusinessCalendar load(final Path file, final UF uf) throws IOException {
+		
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			return load(reader, uf);
+		}
+	}
+	
+	/** Builds a calendar with the built-in holidays plus the ones read from a custom holiday file. The reader is not closed by this method.
+	 *  @param reader - holiday file, with one holiday per line in the format <code>when;scope;years;description</code>
+	 *  @param uf - state whose holidays are observed, or 'null' to observe only the national ones
+	 *  @return A new calendar.
+	 *  @throws IOException if the file could not be read or if it has an invalid line. */
+	public static PhillsBusinessCalendar load(final Reader reader, final UF uf) throws IOException {
+		
+		final List<Holiday> rules = new ArrayList<Holiday>(Default.HOLIDAYS);
+		
+		rules.addAll(read(reader));
+		
+		return new PhillsBusinessCalendar(rules, uf);
+	}
+	
+	/** @return The state whose holidays are observed by this calendar, or 'null' if only the national ones are observed. */
+	public UF getUF() {
+		return uf;
+	}
+	
+	/** Tells if the given <code>date</code> is a holiday (even if it falls on a weekend).
+	 *  @param date - a date
+	 *  @return 'true' if the given <code>date</code> is a holiday, or 'false' otherwise.
+	 *  @throws IllegalArgumentException if the <code>date</code> is out of the calendar years. */
+	public boolean isHoliday(final LocalDate date) {
+		return isHoliday(date.toEpochDay());
+	}
+	
+	/** Tells if the given day is a holiday (even if it falls on a weekend).
+	 *  @param epochDay - a day, counted from 1970-01-01
+	 *  @return 'true' if the given day is a holiday, or 'false' otherwise.
+	 *  @throws IllegalArgumentException if the day is out of the calendar years. */
+	public boolean isHoliday(final long epochDay) {
+		
+		check(epochDay, false);
+		
+		final int year = year(epochDay);
+		final int day  = (int) (epochDay - YEAR_START[year]);
+		
+		return (holidays[year][day >>> 6] & (1L << day)) != 0;
+	}
+	
+	/** Tells if the given <code>date</code> is a business day (neither a weekend nor a holiday).
+	 *  @param date - a date
+	 *  @return 'true' if the given <code>date</code> is a business day, or 'false' otherwise.
+	 *  @throws IllegalArgumentException if the <code>date</code> is out of the calendar years. */
+	public boolean isBusinessDay(final LocalDate date) {
+		return isBusinessDay(date.toEpochDay());
+	}
+	
+	/** Tells if the given day is a business day (neither a weekend nor a holiday).
+	 *  @param epochDay - a day, counted from 1970-01-01
+	 *  @return 'true' if the given day is a business day, or 'false' otherwise.
+	 *  @throws IllegalArgumentException if the day is out of the calendar years. */
+	public boolean isBusinessDay(final long epochDay) {
+		return !weekend(epochDay) && !isHoliday(epochDay);
+	}
+	
+	/** Returns the business days from the <code>start</code> date (inclusive) to the <code>end</code> date (exclusive),
+	 *  just like {@link PhillsLocalDateUtils#getDurationDays(LocalDate, LocalDate)} counts the calendar days.
+	 *  @param start - start date
+	 *  @param end - end date
+	 *  @return The business days between the given dates, negative if <code>end</code> is before <code>start</code>.
+	 *  @throws IllegalArgumentException if any of the dates is out of the calendar years. */
+	public int getBusinessDays(final LocalDate start, final LocalDate end) {
+		return getBusinessDays(start.toEpochDay(), end.toEpochDay());
+	}
+	
+	/** Returns the business days from the <code>start</code> day (inclusive) to the <code>end</code> day (exclusive).
+	 *  @param start - start day, counted from 1970-01-01
+	 *  @param end - end day, counted from 1970-01-01
+	 *  @return The business days between the given days, negative if <code>end</code> is before <code>start</code>.
+	 *  @throws IllegalArgumentException if any of the days is out of the calendar years. */
+	public int getBusinessDays(final long start, final long end) {
+		
+		check(start, true);
+		check(end, true);
+		
+		return count(end) - count(start);
+	}
+	
+	/** Adds business days to a <code>date</code>.
+	 *  @param date - a date
+	 *  @param days - business days to add: the result is the n-th business day after (or before, if negative) the given <code>date</code>,
+	 *  or the <code>date</code> itself if zero
+	 *  @return The resulting date.
+	 *  @throws IllegalArgumentException if the <code>date</code> or the result is out of the calendar years. */
+	public LocalDate addBusinessDays(final LocalDate date, final int days) {
+		return LocalDate.ofEpochDay(addBusinessDays(date.toEpochDay(), days));
+	}
+	
+	/** Adds business days to a day.
+	 *  @param epochDay - a day, counted from 1970-01-01
+	 *  @param days - business days to add: the result is the n-th business day after (or before, if negative) the given day,
+	 *  or the day itself if zero
+	 *  @return The resulting day, counted from 1970-01-01.
+	 *  @throws IllegalArgumentException if the day or the result is out of the calendar years. */
+	public long addBusinessDays(final long epochDay, final int days) {
+		
+		check(epochDay, false);
+		
+		if (days == 0)
+			return epochDay;
+		
+		// Ordinal (zero based) of the resulting business day
+		final long target = (days > 0) ? count(epochDay + 1) + (long) days - 1 : count(epochDay) + (long) days;
+		
+		if ((target < 0) || (target >= businessBefore[YEARS]))
+			throw new IllegalArgumentException("Result out of the calendar years (" + FIRST_YEAR + "-" + LAST_YEAR + ")");
+		
+		// Estimating with 5 business days per week and correcting by the prefix sums: as they grow at most one
+		// per day, each jump never passes the first day with the target count, so it takes just a few steps
+		long day = Math.max(YEAR_START[0], Math.min(YEAR_START[YEARS] - 1, epochDay + days * 7L / 5));
+		int count;
+		
+		while ((count = count(day)) != target)
+			day += target - count;
+		
+		// Here 'day' is the first one with 'target' business days before it, so the result is the next business day
+		while (!isBusinessDay(day))
+			day++;
+		
+		return day;
+	}
+	
+	/**************************** Internal Methods Section ***************************************/
+	
+	/** @return The number of business days from the first day of FIRST_YEAR until the given day (exclusive). */
+	private int count(final long epochDay) {
+		
+		if (epochDay == YEAR_START[YEARS])
+			return businessBefore[YEARS];
+		
+		final int year = year(epochDay);
+		
+		return businessBefore[year] + business[year][(int) (epochDay - YEAR_START[year])];
+	}
+	
+	/** @return The index of the year of a day within the calendar years. */
+	private static int year(final long epochDay) {
+		
+		int year = (int) ((epochDay - YEAR_START[0]) * 400 / 146_097);
+		
+		while ((year + 1 < YEARS) && (YEAR_START[year + 1] <= epochDay))
+			year++;
+		
+		while (YEAR_START[year] > epochDay)
+			year--;
+		
+		return year;
+	}
+	
+	/** Throws an IllegalArgumentException if the given day is out of the calendar years (the day after them is accepted if 'end'). */
+	private static void check(final long epochDay, final boolean end) {
+		
+		if ((epochDay < YEAR_START[0]) || (epochDay > YEAR_START[YEARS]) || ((epochDay == YEAR_START[YEARS]) && !end))
+			throw new IllegalArgumentException("Date out of the calendar years (" + FIRST_YEAR + "-" + LAST_YEAR + "): " + LocalDate.ofEpochDay(epochDay));
+	}
+	
+	/** @return 'true' if the given day is a saturday or a sunday (1970-01-01 was a thursday). */
+	private static boolean weekend(final long epochDay) {
+		return Math.floorMod(epochDay + 3, 7) >= 5;
+	}
+	
+	/** Computes the epoch day of the Easter Sunday of a year, with the anonymous gregorian algorithm. */
+	static long easter(final int year) {
+		
+		final int a = year % 19, b = year / 100, c = year % 100;
+		final int d = b / 4, e = b % 4, f = (b + 8) / 25, g = (b - f + 1) / 3;
+		final int h = (19 * a + b - d - g + 15) % 30;
+		final int i = c / 4, k = c % 4;
+		final int l = (32 + 2 * e + 2 * i - h - k) % 7;
+		final int m = (a + 11 * h + 22 * l) / 451;
+		final int month = (h + l - 7 * m + 114) / 31;
+		final int day = (h + l - 7 * m + 114) % 31 + 1;
+		
+		return PhillsLocalDateParser.epochDay(year, month, day);
+	}
+	
+	/** Reads the holidays of a holiday file.
+	 *  @throws IOException if the file could not be read or if it has an invalid line. */
+	private static List<Holiday> read(final Reader reader) throws IOException {
+		
+		final BufferedReader lines = (reader instanceof BufferedReader) ? (BufferedReader) reader : new BufferedReader(reader);
+		final List<Holiday> holidays = new ArrayList<Holiday>();
+		
+		int number = 0;
+		String line;
+		
+		while ((line = lines.readLine()) != null) {
+			
+			number++;
+			line = line.trim();
+			
+			if (line.isEmpty() || (line.charAt(0) == '#'))
+				continue;
+			
+			final Holiday holiday = parse(line.split(";", -1));
+			
+			if (holiday == null)
+				throw new IOException("Invalid holiday at line " + number + ": " + line);
+			
+			holidays.add(holiday);
+		}
+		
+		return holidays;
+	}
+	
+	/** @return The holiday of the fields of a line, or 'null' if they are invalid. */
+	private static Holiday parse(final String[] fields) {
+		
+		if (fields.length < 2)
+			return null;
+		
+		final String when  = fields[0].trim();
+		final String scope = fields[1].trim();
+		final String years = (fields.length > 2) ? fields[2].trim() : "";
+		
+		// Scope
+		UF uf = null;
+		
+		if (!scope.equalsIgnoreCase("BR")) {
+			
+			for (UF state: UFS)
+				if (state.name().equalsIgnoreCase(scope))
+					uf = state;
+			
+			if (uf == null)
+				return null;
+		}
+		
+		// Years
+		int firstYear = Integer.MIN_VALUE, lastYear = Integer.MAX_VALUE;
+		
+		if (!years.isEmpty()) {
+			
+			final int dash = years.indexOf('-');
+			
+			if (dash < 0)
+				return null;
+			
+			if (dash > 0)
+				firstYear = number(years, 0, dash);
+			
+			if (dash < years.length() - 1)
+				lastYear = number(years, dash + 1, years.length());
+			
+			if ((firstYear < 0) || (lastYear < 0))
+				return null;
+		}
+		
+		// Easter-based holiday
+		if ((when.length() > 2) && ((when.charAt(0) == 'E') || (when.charAt(0) == 'e'))) {
+			
+			final int offset = number(when, 2, when.length());
+			
+			if ((offset < 0) || (offset > 366) || ((when.charAt(1) != '+') && (when.charAt(1) != '-')))
+				return null;
+			
+			return new Holiday((when.charAt(1) == '-') ? -offset : offset, 0, firstYear, lastYear, uf);
+		}
+		
+		// Fixed date holiday (dd/MM or dd/MM/yyyy)
+		if (((when.length() != 5) && (when.length() != 10)) || (when.charAt(2) != '/') || ((when.length() == 10) && (when.charAt(5) != '/')))
+			return null;
+		
+		final int day = number(when, 0, 2), month = number(when, 3, 5);
+		
+		if ((month < 1) || (month > 12) || (day < 1) || (day > PhillsDateFormatter.daysInMonth(2000, month)))
+			return null;
+		
+		if (when.length() == 10) {
+			
+			final int year = number(when, 6, 10);
+			
+			if (year < 1)
+				return null;
+			
+			firstYear = Math.max(firstYear, year);
+			lastYear  = Math.min(lastYear , year);
+		}
+		
+		return new Holiday(day, month, firstYear, lastYear, uf);
+	}
+	
+	/** @return The non-negative number in text[start, end), or -1 if it has other characters than digits. */
+	private static int number(final String text, final int start, final int end) {
+		
+		if ((start >= end) || (end - start > 9))
+			return -1;
+		
+		int value = 0;
+		
+		for (int i=start; i<end; i++) {
+			
+			final char c = text.charAt(i);
+			
+			if ((c < '0') || (c > '9'))
+				return -1;
+			
+			value = value * 10 + (c - '0');
+		}
+		
+		return value;
+	}
+	
+	/** Loads the built-in holidays. */
+	private static List<Holiday> loadDefault() {
+		
+		try (InputStream stream = PhillsBusinessCalendar.class.getResourceAsStream(DEFAULT_HOLIDAYS)) {
+			
+			if (stream == null)
+				throw new IOException("Holiday file not found: " + DEFAULT_HOLIDAYS);
+			
+			return read(new InputStreamReader(stream, StandardCharsets.UTF_8));
+		}
+		catch (IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+}
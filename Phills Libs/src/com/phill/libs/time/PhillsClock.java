@@ -0,0 +1,161 @@
+package com.phill.libs.time;
+
+import java.time.LocalDate;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeUtils;
+import org.joda.time.DateTimeZone;
+import org.joda.time.chrono.ISOChronology;
+
+/** A source of the current instant and time zone, used by {@link PhillsDateUtils} and {@link PhillsLocalDateUtils}
+ *  whenever they need "now" or "today".<br>
+ *  Each clock caches the fields of the current day, refreshing them only when the day rolls over (or the zone changes),
+ *  so asking for today, the current year or the current month costs a clock read and two comparisons, with no
+ *  allocations nor time zone lookups.<br>
+ *  The default clock ({@link #SYSTEM}) follows the system time and the default time zone of Joda Time, just like
+ *  <code>new DateTime()</code>. Tests may replace it with a {@link #fixed(DateTime)} clock:<br><br>
+ *  <code>PhillsClock.setDefault(PhillsClock.fixed(new DateTime(2026, 10, 18, 12, 0)));</code>
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026 */
+public abstract class PhillsClock {
+	
+	/** Clock of the system time (the same of <code>new DateTime()</code>, including
+	 *  {@link DateTimeUtils#setCurrentMillisFixed(long)}) at the default time zone of Joda Time. */
+	public static final PhillsClock SYSTEM = new PhillsClock() {
+		
+		@Override
+		public long millis() {
+			return DateTimeUtils.currentTimeMillis();
+		}
+		
+		@Override
+		public DateTimeZone getZone() {
+			return DateTimeZone.getDefault();
+		}
+	
+	};
+	
+	private static volatile PhillsClock current = SYSTEM;
+	
+	// Fields of the current day, replaced as a whole on day rollover
+	private volatile Today today;
+	
+	/** Fields of a day, valid from 'start' (inclusive) to 'end' (exclusive). */
+	private static final class Today {
+		
+		private final DateTimeZone zone;
+		private final long start, end;
+		private final int year, month, day;
+		private final LocalDate date;
+		
+		private Today(final long millis, final DateTimeZone zone) {
+			
+			final Chronology chronology = ISOChronology.getInstance(zone);
+			
+			this.zone  = zone;
+			this.start = chronology.dayOfMonth().roundFloor(millis);
+			this.end   = chronology.dayOfMonth().roundFloor(chronology.dayOfMonth().add(this.start, 1));
+			this.year  = chronology.year().get(millis);
+			this.month = chronology.monthOfYear().get(millis);
+			this.day   = chronology.dayOfMonth().get(millis);
+			this.date  = LocalDate.of(year, month, day);
+		}
+	
+	}
+	
+	/** Creates a new clock. Subclasses only need to provide the current instant and time zone. */
+	protected PhillsClock() { }
+	
+	/** @return The clock used by the methods of this package (by default, {@link #SYSTEM}). */
+	public static PhillsClock getDefault() {
+		return current;
+	}
+	
+	/** Replaces the clock used by the methods of this package.
+	 *  @param clock - new default clock, or 'null' to restore the {@link #SYSTEM} clock */
+	public static void setDefault(final PhillsClock clock) {
+		current = (clock == null) ? SYSTEM : clock;
+	}
+	
+	/** Creates a clock that is always at the given <code>instant</code> (and its time zone).
+	 *  @param instant - fixed instant
+	 *  @return A new fixed clock. */
+	public static PhillsClock fixed(final DateTime instant) {
+		return fixed(instant.getMillis(), instant.getZone());
+	}
+	
+	/** Creates a clock that is always at the given instant.
+	 *  @param millis - fixed instant, in milliseconds from the Java epoch of 1970-01-01T00:00:00Z
+	 *  @param zone - time zone of the clock
+	 *  @return A new fixed clock. */
+	public static PhillsClock fixed(final long millis, final DateTimeZone zone) {
+		
+		return new PhillsClock() {
+			
+			@Override
+			public long millis() {
+				return millis;
+			}
+			
+			@Override
+			public DateTimeZone getZone() {
+				return zone;
+			}
+		
+		};
+	}
+	
+	/** @return The current instant, in milliseconds from the Java epoch of 1970-01-01T00:00:00Z. */
+	public abstract long millis();
+	
+	/** @return The time zone of this clock. */
+	public abstract DateTimeZone getZone();
+	
+	/** @return A new {@link DateTime} at the current instant and time zone of this clock. */
+	public DateTime now() {
+		return new DateTime(millis(), getZone());
+	}
+	
+	/** @return The current date of this clock (cached until the day rolls over). */
+	public LocalDate getToday() {
+		return today().date;
+	}
+	
+	/** @return The first instant of the current day, in milliseconds from the Java epoch of 1970-01-01T00:00:00Z. */
+	public long getTodayMillis() {
+		return today().start;
+	}
+	
+	/** @return The current year. */
+	public int getYear() {
+		return today().year;
+	}
+	
+	/** @return The current month of the year (1-12). */
+	public int getMonth() {
+		return today().month;
+	}
+	
+	/** @return The current day of the month (1-31). */
+	public int getDay() {
+		return today().day;
+	}
+	
+	/**************************** Internal Methods Section ***************************************/
+	
+	/** @return The fields of the current day, recomputed only when the cached ones are no longer valid. */
+	private Today today() {
+		
+		final long millis = millis();
+		final DateTimeZone zone = getZone();
+		
+		Today today = this.today;
+		
+		if ((today == null) || (millis < today.start) || (millis >= today.end) || (today.zone != zone))
+			this.today = today = new Today(millis, zone);
+		
+		return today;
+	}
+
+}
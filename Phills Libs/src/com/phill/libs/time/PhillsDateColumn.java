@@ -0,0 +1,239 @@
+package com.phill.libs.time;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/** Parses whole columns of string dates (e.g. loaded from a CSV file or a table) straight into primitive arrays of
+ *  epoch days or epoch milliseconds, without keeping a {@link org.joda.time.DateTime} object per row.<br>
+ *  The format of the column is detected only once, from its first cells, so every cell that follows the canonical
+ *  layout of that format is read straight from the characters. The other cells fall back to the per-cell detection of
+ *  {@link PhillsDateParser#createDate(String)}. Columns with at least {@link #PARALLEL_THRESHOLD} cells are parsed in parallel.<br>
+ *  Unparseable (or null) cells receive {@link #INVALID_DAY} or {@link #INVALID_MILLIS} and have their indexes
+ *  recorded in a {@link BitSet}, if one is given.<br>
+ *  Quick example:<br><br>
+ *  <code>BitSet invalid = new BitSet();<br>int[] days = PhillsDateColumn.toEpochDays(column, invalid);</code>
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026 */
+public class PhillsDateColumn {
+	
+	/** Epoch day stored in the cells that could not be parsed. */
+	public static final int INVALID_DAY = Integer.MIN_VALUE;
+	
+	/** Epoch milliseconds stored in the cells that could not be parsed. */
+	public static final long INVALID_MILLIS = Long.MIN_VALUE;
+	
+	/** Minimum number of cells of a column to be parsed in parallel. */
+	public static final int PARALLEL_THRESHOLD = 8192;
+	
+	/** Maximum number of non-null cells sampled to detect the format of a column. */
+	private static final int SAMPLE_SIZE = 16;
+	
+	private static final long MILLIS_PER_DAY = 86_400_000L;
+	
+	/** Detects the format of a column, using the first of its non-null cells that can be parsed.
+	 *  Unlike {@link PhillsDateParser#detectFormat(CharSequence)}, a column of US dates (MM/dd/yyyy) is told apart from
+	 *  a column of brazilian dates when its first parseable cell is not a valid brazilian date.
+	 *  @param column - column of string dates
+	 *  @return The format of the column, or 'null' if none of the sampled cells could be parsed. */
+	public static PhillsDateFormatter detectFormat(final CharSequence[] column) {
+		
+		for (int i=0, sampled=0; (i < column.length) && (sampled < SAMPLE_SIZE); i++) {
+			
+			if (column[i] == null)
+				continue;
+			
+			final PhillsDateFormatter format = detect(column[i]);
+			
+			if (format != null)
+				return format;
+			
+			sampled++;
+		}
+		
+		return null;
+	}
+	
+	/** Parses a column of string dates into epoch days (days since 1970-01-01). Time fields, if any, are ignored.
+	 *  @param column - column of string dates
+	 *  @param invalid - receives the indexes of the cells that could not be parsed (cleared first), may be null
+	 *  @return A new array with the epoch day of each cell, or {@link #INVALID_DAY} for the cells that could not be parsed. */
+	public static int[] toEpochDays(final CharSequence[] column, final BitSet invalid) {
+		
+		final PhillsDateFormatter format = detectFormat(column);
+		final int[] days = new int[column.length];
+		
+		if (column.length >= PARALLEL_THRESHOLD)
+			Arrays.parallelSetAll(days, i -> epochDay(column[i], format));
+		else
+			Arrays.setAll(days, i -> epochDay(column[i], format));
+		
+		if (invalid != null) {
+			
+			invalid.clear();
+			
+			for (int i=0; i<days.length; i++)
+				if (days[i] == INVALID_DAY)
+					invalid.set(i);
+		}
+		
+		return days;
+	}
+	
+	/** Parses a column of string dates into epoch days (days since 1970-01-01). Time fields, if any, are ignored.
+	 *  @param column - column of string dates
+	 *  @param invalid - receives the indexes of the cells that could not be parsed (cleared first), may be null
+	 *  @return A new array with the epoch day of each cell, or {@link #INVALID_DAY} for the cells that could not be parsed. */
+	public static int[] toEpochDays(final List<? extends CharSequence> column, final BitSet invalid) {
+		return toEpochDays(toArray(column), invalid);
+	}
+	
+	/** Parses a column of string dates into milliseconds from the Java epoch of 1970-01-01T00:00:00Z,
+	 *  at the system default time zone.
+	 *  @param column - column of string dates
+	 *  @param invalid - receives the indexes of the cells that could not be parsed (cleared first), may be null
+	 *  @return A new array with the epoch milliseconds of each cell, or {@link #INVALID_MILLIS} for the cells that could not be parsed. */
+	public static long[] toMillis(final CharSequence[] column, final BitSet invalid) {
+		return toMillis(column, ZoneId.systemDefault(), invalid);
+	}
+	
+	/** Parses a column of string dates into milliseconds from the Java epoch of 1970-01-01T00:00:00Z, at the given <code>zone</code>.
+	 *  Just like {@link java.time.LocalDateTime#atZone(ZoneId)}, local times that do not exist in the <code>zone</code>
+	 *  (daylight saving gaps) are shifted forward by the length of the gap, and the ambiguous ones (daylight saving overlaps)
+	 *  are resolved to the earlier instant. Note that Joda Time rejects the local times inside gaps instead.
+	 *  @param column - column of string dates
+	 *  @param zone - time zone of the dates
+	 *  @param invalid - receives the indexes of the cells that could not be parsed (cleared first), may be null
+	 *  @return A new array with the epoch milliseconds of each cell, or {@link #INVALID_MILLIS} for the cells that could not be parsed. */
+	public static long[] toMillis(final CharSequence[] column, final ZoneId zone, final BitSet invalid) {
+		
+		final PhillsDateFormatter format = detectFormat(column);
+		final ZoneRules rules = zone.getRules();
+		final long[] millis = new long[column.length];
+		
+		if (column.length >= PARALLEL_THRESHOLD)
+			Arrays.parallelSetAll(millis, i -> millis(column[i], format, rules));
+		else
+			Arrays.setAll(millis, i -> millis(column[i], format, rules));
+		
+		if (invalid != null) {
+			
+			invalid.clear();
+			
+			for (int i=0; i<millis.length; i++)
+				if (millis[i] == INVALID_MILLIS)
+					invalid.set(i);
+		}
+		
+		return millis;
+	}
+	
+	/** Parses a column of string dates into milliseconds from the Java epoch of 1970-01-01T00:00:00Z,
+	 *  at the system default time zone.
+	 *  @param column - column of string dates
+	 *  @param invalid - receives the indexes of the cells that could not be parsed (cleared first), may be null
+	 *  @return A new array with the epoch milliseconds of each cell, or {@link #INVALID_MILLIS} for the cells that could not be parsed. */
+	public static long[] toMillis(final List<? extends CharSequence> column, final BitSet invalid) {
+		return toMillis(toArray(column), ZoneId.systemDefault(), invalid);
+	}
+	
+	/** Parses a column of string dates into milliseconds from the Java epoch of 1970-01-01T00:00:00Z, at the given <code>zone</code>.
+	 *  @param column - column of string dates
+	 *  @param zone - time zone of the dates
+	 *  @param invalid - receives the indexes of the cells that could not be parsed (cleared first), may be null
+	 *  @return A new array with the epoch milliseconds of each cell, or {@link #INVALID_MILLIS} for the cells that could not be parsed.
+	 *  @see #toMillis(CharSequence[], ZoneId, BitSet) */
+	public static long[] toMillis(final List<? extends CharSequence> column, final ZoneId zone, final BitSet invalid) {
+		return toMillis(toArray(column), zone, invalid);
+	}
+	
+	/**************************** Internal Methods Section ***************************************/
+	
+	/** Detects the format of a single cell, retrying an invalid brazilian date as a US date. */
+	private static PhillsDateFormatter detect(final CharSequence cell) {
+		
+		final PhillsDateFormatter format = PhillsDateParser.detectFormat(cell);
+		
+		if (format == null)
+			return null;
+		
+		if (PhillsLocalDateParser.createDateTime(cell, format) != null)
+			return format;
+		
+		if ((format == PhillsDateFormatter.AWT_DATE) && (PhillsLocalDateParser.createDateTime(cell, PhillsDateFormatter.AWT_DATE_US) != null))
+			return PhillsDateFormatter.AWT_DATE_US;
+		
+		return null;
+	}
+	
+	/** Parses a single cell into an epoch day, using the column 'format' when the cell follows its canonical layout. */
+	private static int epochDay(final CharSequence cell, final PhillsDateFormatter format) {
+		
+		if (cell == null)
+			return INVALID_DAY;
+		
+		if ((format != null) && format.fits(cell) && format.isValid(cell))
+			return (int) PhillsLocalDateParser.epochDay(format.getYear(cell), format.getMonth(cell), format.getDay(cell));
+		
+		final LocalDate date = PhillsLocalDateParser.createDate(cell);
+		
+		if ((date == null) || (date.toEpochDay() <= INVALID_DAY) || (date.toEpochDay() > Integer.MAX_VALUE))
+			return INVALID_DAY;
+		
+		return (int) date.toEpochDay();
+	}
+	
+	/** Parses a single cell into epoch milliseconds, using the column 'format' when the cell follows its canonical layout. */
+	private static long millis(final CharSequence cell, final PhillsDateFormatter format, final ZoneRules rules) {
+		
+		if (cell == null)
+			return INVALID_MILLIS;
+		
+		final long local;
+		
+		if ((format != null) && format.fits(cell) && format.isValid(cell)) {
+			
+			final long day  = PhillsLocalDateParser.epochDay(format.getYear(cell), format.getMonth(cell), format.getDay(cell));
+			final long time = ((format.getHour(cell) * 60L + format.getMinute(cell)) * 60L + format.getSecond(cell)) * 1000L + format.getMillis(cell);
+			
+			local = day * MILLIS_PER_DAY + time;
+		}
+		else {
+			
+			final LocalDateTime date = PhillsLocalDateParser.createDateTime(cell);
+			
+			if (date == null)
+				return INVALID_MILLIS;
+			
+			// Years far beyond the range of epoch milliseconds
+			if (Math.abs(date.toLocalDate().toEpochDay()) > Long.MAX_VALUE / MILLIS_PER_DAY - 1)
+				return INVALID_MILLIS;
+			
+			local = date.toLocalDate().toEpochDay() * MILLIS_PER_DAY + date.toLocalTime().toNanoOfDay() / 1_000_000L;
+		}
+		
+		// Fixed offset zones (e.g. UTC) need no lookup at all
+		if (rules.isFixedOffset())
+			return local - rules.getOffset(Instant.EPOCH).getTotalSeconds() * 1000L;
+		
+		final LocalDateTime dateTime = LocalDateTime.ofEpochSecond(Math.floorDiv(local, 1000L), 0, ZoneOffset.UTC);
+		final List<ZoneOffset> offsets = rules.getValidOffsets(dateTime);
+		
+		// Local times inside a gap are shifted forward by the length of the gap
+		final ZoneOffset offset = offsets.isEmpty() ? rules.getTransition(dateTime).getOffsetBefore() : offsets.get(0);
+		
+		return local - offset.getTotalSeconds() * 1000L;
+	}
+	
+	/** Copies a 'column' list to an array, so that it can be read by index in parallel. */
+	private static CharSequence[] toArray(final List<? extends CharSequence> column) {
+		return column.toArray(new CharSequence[column.size()]);
+	}
+
+}
@@ -0,0 +1,220 @@
+package com.phill.libs.time;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.Function;
+
+/** Compares string dates of a {@link PhillsDateFormatter} format without parsing them: strings following the canonical
+ *  layout of the format (e.g. <code>dd/MM/yyyy</code>) are compared digit-wise, from the year to the fraction of second,
+ *  straight on the characters. Strings that do not follow the layout are parsed (see {@link #getSortKey(CharSequence)})
+ *  and the unparseable ones (or null) come first.<br>
+ *  To sort large collections, the sort keys ({@link #getSortKey(CharSequence)} and {@link #getDateKey(CharSequence)})
+ *  can be extracted once per element instead of once per comparison, which is what {@link #sort(Object[], Function)} does.<br>
+ *  Quick example:<br><br>
+ *  <code>Collections.sort(dates, PhillsDateComparator.get(PhillsDateFormatter.AWT_DATE));</code>
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026
+ *  @see PhillsDateUtils#compare(String, String, String) */
+public final class PhillsDateComparator implements Comparator<CharSequence> {
+	
+	/** Sort key of the strings that could not be parsed. */
+	public static final long INVALID_KEY = Long.MIN_VALUE;
+	
+	/** Date key of the strings that could not be parsed. */
+	public static final int INVALID_DATE_KEY = Integer.MIN_VALUE;
+	
+	private static final PhillsDateComparator[] COMPARATORS;
+	
+	static {
+		
+		final PhillsDateFormatter[] formats = PhillsDateFormatter.values();
+		
+		COMPARATORS = new PhillsDateComparator[formats.length];
+		
+		for (PhillsDateFormatter format: formats)
+			COMPARATORS[format.ordinal()] = new PhillsDateComparator(format);
+	}
+	
+	private final PhillsDateFormatter format;
+	
+	// Positions of the digits of the canonical layout, from the most to the least significant
+	private final int[] digits;
+	
+	/** Internal constructor, use {@link #get(PhillsDateFormatter)} instead. */
+	private PhillsDateComparator(final PhillsDateFormatter format) {
+		
+		final String layout = format.getLayout();
+		final int[] digits = new int[layout.length()];
+		int count = 0;
+		
+		for (char field: "yMdHmsS".toCharArray())
+			for (int i=0; i<layout.length(); i++)
+				if (layout.charAt(i) == field)
+					digits[count++] = i;
+		
+		this.format = format;
+		this.digits = Arrays.copyOf(digits, count);
+	}
+	
+	/** Retrieves the comparator of a format.
+	 *  @param format - one of the known date formats
+	 *  @return The comparator of string dates of the given <code>format</code>. */
+	public static PhillsDateComparator get(final PhillsDateFormatter format) {
+		return COMPARATORS[format.ordinal()];
+	}
+	
+	/** @return The format of the string dates compared by this comparator. */
+	public PhillsDateFormatter getFormat() {
+		return format;
+	}
+	
+	/** Compares two string dates, with the same result of comparing their sort keys ({@link #getSortKey(CharSequence)}).
+	 *  Dates following the canonical layout of the format are compared digit-wise, without parsing nor allocations.
+	 *  @return 0 if the dates are the same;<br>
+	 * 			1 if date1 > date2;<br>
+	 * 		   -1 if date1 < date2. */
+	@Override
+	public int compare(final CharSequence date1, final CharSequence date2) {
+		
+		if ((date1 != null) && (date2 != null) && format.fits(date1) && format.fits(date2)) {
+			
+			for (int position: digits) {
+				
+				final int diff = date1.charAt(position) - date2.charAt(position);
+				
+				if (diff != 0)
+					return (diff < 0) ? -1 : 1;
+			}
+			
+			return 0;
+		}
+		
+		return Long.compare(getSortKey(date1), getSortKey(date2));
+	}
+	
+	/** Extracts a sort key of a string date: its fields as the decimal number <code>yyyyMMddHHmmssSSS</code>, where the
+	 *  missing fields are zeros. So, the keys extracted by the comparators of different formats are comparable to each other.<br>
+	 *  Dates following the canonical layout of the format are read digit-wise (even if they are not valid dates, e.g. 31/02),
+	 *  the others are parsed with {@link PhillsLocalDateParser#createDateTime(CharSequence, PhillsDateFormatter)}.
+	 *  @param date - String date
+	 *  @return The sort key of the given <code>date</code>, or {@link #INVALID_KEY} if it could not be parsed (or has a year after 9999). */
+	public long getSortKey(final CharSequence date) {
+		
+		if (date == null)
+			return INVALID_KEY;
+		
+		if (format.fits(date))
+			return key(format.getYear(date), format.getMonth(date), format.getDay(date), format.getHour(date),
+					   format.getMinute(date), format.getSecond(date), format.getMillis(date));
+		
+		final LocalDateTime parsed = PhillsLocalDateParser.createDateTime(date, format);
+		
+		if ((parsed == null) || (parsed.getYear() < 0) || (parsed.getYear() > 9999))
+			return INVALID_KEY;
+		
+		return key(parsed.getYear(), parsed.getMonthValue(), parsed.getDayOfMonth(), parsed.getHour(),
+				   parsed.getMinute(), parsed.getSecond(), parsed.getNano() / 1_000_000);
+	}
+	
+	/** Extracts a date-only sort key of a string date: its date fields as the decimal number <code>yyyyMMdd</code> (time is ignored).
+	 *  @param date - String date
+	 *  @return The date key of the given <code>date</code>, or {@link #INVALID_DATE_KEY} if it could not be parsed (or has a year after 9999).
+	 *  @see #getSortKey(CharSequence) */
+	public int getDateKey(final CharSequence date) {
+		
+		final long key = getSortKey(date);
+		
+		return (key == INVALID_KEY) ? INVALID_DATE_KEY : (int) (key / 1_000_000_000L);
+	}
+	
+	/** Extracts the sort keys of an array of string dates (in parallel).
+	 *  @param dates - array of string dates
+	 *  @return A new array with the sort key of each date, in the same order.
+	 *  @see #getSortKey(CharSequence) */
+	public long[] getSortKeys(final CharSequence[] dates) {
+		
+		final long[] keys = new long[dates.length];
+		
+		Arrays.parallelSetAll(keys, i -> getSortKey(dates[i]));
+		
+		return keys;
+	}
+	
+	/** Sorts an array by a string date of its elements (decorate-sort-undecorate): the sort key of each element is
+	 *  extracted only once, instead of twice per comparison. The sort is stable.
+	 *  @param <T> element type
+	 *  @param items - array to be sorted
+	 *  @param date - extracts the string date of an element (e.g. <code>Contract::getDueDate</code>) */
+	public <T> void sort(final T[] items, final Function<? super T, ? extends CharSequence> date) {
+		
+		final Decorated[] decorated = decorate(Arrays.asList(items), date);
+		
+		for (int i=0; i<items.length; i++)
+			items[i] = undecorate(decorated[i]);
+	}
+	
+	/** Sorts a list by a string date of its elements (decorate-sort-undecorate): the sort key of each element is
+	 *  extracted only once, instead of twice per comparison. The sort is stable.
+	 *  @param <T> element type
+	 *  @param items - list to be sorted (must support {@link ListIterator#set(Object)})
+	 *  @param date - extracts the string date of an element (e.g. <code>Contract::getDueDate</code>) */
+	public <T> void sort(final List<T> items, final Function<? super T, ? extends CharSequence> date) {
+		
+		final Decorated[] decorated = decorate(items, date);
+		final ListIterator<T> iterator = items.listIterator();
+		
+		for (Decorated element: decorated) {
+			iterator.next();
+			iterator.set(undecorate(element));
+		}
+	}
+	
+	/**************************** Internal Methods Section ***************************************/
+	
+	/** An element decorated with its sort key. */
+	private static final class Decorated {
+		
+		private final long key;
+		private final Object item;
+		
+		private Decorated(final long key, final Object item) {
+			this.key  = key;
+			this.item = item;
+		}
+	
+	}
+	
+	/** Decorates the 'items' with their sort keys (in parallel) and sorts them by key. */
+	private <T> Decorated[] decorate(final List<T> items, final Function<? super T, ? extends CharSequence> date) {
+		
+		final Object[] elements = items.toArray();
+		final Decorated[] decorated = new Decorated[elements.length];
+		
+		Arrays.parallelSetAll(decorated, i -> {
+			
+			@SuppressWarnings("unchecked")
+			final T item = (T) elements[i];
+			
+			return new Decorated(getSortKey(date.apply(item)), item);
+		});
+		
+		Arrays.parallelSort(decorated, Comparator.comparingLong((Decorated element) -> element.key));
+		
+		return decorated;
+	}
+	
+	/** @return The element of a 'decorated' one. */
+	@SuppressWarnings("unchecked")
+	private static <T> T undecorate(final Decorated decorated) {
+		return (T) decorated.item;
+	}
+	
+	/** @return The sort key of the given fields. */
+	private static long key(final int year, final int month, final int day, final int hour, final int minute, final int second, final int millis) {
+		return (((((year * 100L + month) * 100L + day) * 100L + hour) * 100L + minute) * 100L + second) * 1000L + millis;
+	}
+
+}
@@ -1,28 +1,57 @@
 package com.phill.libs.time;
 
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
+
 import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
 
 /** Contains some known date formats to be used in {@link PhillsDateParser} methods.
+ *  Each format also has a canonical fixed-width layout (e.g. <code>dd/MM/yyyy</code>), used to read the
+ *  date fields straight from the characters, without Joda Time parsing, and an equivalent
+ *  {@link java.time.format.DateTimeFormatter} used by {@link PhillsLocalDateParser}.
  *  @author Felipe André - felipeandre.eng@gmail.com
- *  @version 2.1, 22/JAN/2022 */
+ *  @version 2.3, 18/OCT/2026 */
 public enum PhillsDateFormatter {
-
-	SQL_DATE_TIME_MS(DateTimeFormat.forPattern("YYYY-MM-dd HH:mm:ss.S")),
-	SQL_DATE_TIME   (DateTimeFormat.forPattern("YYYY-MM-dd HH:mm:ss")),
-	SQL_DATE        (DateTimeFormat.forPattern("YYYY-MM-dd")),
-	AWT_DATE_TIME   (DateTimeFormat.forPattern("dd/MM/YYYY HH:mm:ss")),
-	AWT_DATE        (DateTimeFormat.forPattern("dd/MM/YYYY")),
-	AWT_DATE_US     (DateTimeFormat.forPattern("MM/dd/YYYY")),
-	RAW_DATE        (DateTimeFormat.forPattern("ddMMyyyy")),
-	XLS_DATE        (DateTimeFormat.forPattern("yyyyMMdd//"));
+	
+	SQL_DATE_TIME_MS(DateTimeFormat.forPattern("YYYY-MM-dd HH:mm:ss.S"), "yyyy-MM-dd HH:mm:ss.S"),
+	SQL_DATE_TIME   (DateTimeFormat.forPattern("YYYY-MM-dd HH:mm:ss")  , "yyyy-MM-dd HH:mm:ss"),
+	SQL_DATE        (DateTimeFormat.forPattern("YYYY-MM-dd")           , "yyyy-MM-dd"),
+	AWT_DATE_TIME   (DateTimeFormat.forPattern("dd/MM/YYYY HH:mm:ss")  , "dd/MM/yyyy HH:mm:ss"),
+	AWT_DATE        (DateTimeFormat.forPattern("dd/MM/YYYY")           , "dd/MM/yyyy"),
+	AWT_DATE_US     (DateTimeFormat.forPattern("MM/dd/YYYY")           , "MM/dd/yyyy"),
+	RAW_DATE        (DateTimeFormat.forPattern("ddMMyyyy")             , "ddMMyyyy"),
+	XLS_DATE        (DateTimeFormat.forPattern("yyyyMMdd//")           , "yyyyMMdd//");
 	
 	private DateTimeFormatter formatter;
 	
-	PhillsDateFormatter(DateTimeFormatter formatter) {
+	// Strict java.time formatters (invalid dates are rejected instead of adjusted). The parser
+	// also accepts fields with fewer digits (e.g. '1/2/2020'), just like the Joda Time formatter
+	private final java.time.format.DateTimeFormatter javaFormatter, javaParser;
+	
+	// Canonical layout: letters are digit positions, any other character is a literal.
+	// The fraction of second ('S') has a single digit, just like the Joda Time pattern accepts
+	private final String layout;
+	
+	// Offsets of each field in the canonical layout, or -1 if the field is absent
+	private final int year, month, day, hour, minute, second, millis;
+	
+	PhillsDateFormatter(DateTimeFormatter formatter, String layout) {
 		this.formatter = formatter;
+		this.layout    = layout;
+		this.javaFormatter = java.time.format.DateTimeFormatter.ofPattern(layout.replace("yyyy", "uuuu")).withResolverStyle(ResolverStyle.STRICT);
+		this.javaParser    = parser(layout);
+		this.year      = layout.indexOf("yyyy");
+		this.month     = layout.indexOf("MM");
+		this.day       = layout.indexOf("dd");
+		this.hour      = layout.indexOf("HH");
+		this.minute    = layout.indexOf("mm");
+		this.second    = layout.indexOf("ss");
+		this.millis    = layout.indexOf('S');
 	}
-
+	
 	/** Retrieves a Joda Time formatter corresponding to the selected enum.
 	 *  @return A Joda Time formatter corresponding to the selected enum.
 	 *  @see DateTimeFormatter */
@@ -30,4 +59,153 @@ public enum PhillsDateFormatter {
 		return this.formatter;
 	}
 	
+	/** Retrieves an immutable java.time formatter corresponding to the selected enum, with strict resolution.
+	 *  @return A java.time formatter corresponding to the selected enum.
+	 *  @see java.time.format.DateTimeFormatter */
+	public java.time.format.DateTimeFormatter getJavaFormat() {
+		return this.javaFormatter;
+	}
+	
+	/** Retrieves the canonical fixed-width layout of this format, where 'yyyy', 'MM', 'dd', 'HH', 'mm', 'ss' and 'S' are digits.
+	 *  @return The canonical layout of this format (e.g. <code>dd/MM/yyyy</code>). */
+	public String getLayout() {
+		return this.layout;
+	}
+	
+	/**************************** Internal Methods Section ***************************************/
+	
+	/** @return A strict java.time parser with the same field widths of the Joda Time formatter of this format. */
+	java.time.format.DateTimeFormatter getJavaParser() {
+		return this.javaParser;
+	}
+	
+	/** Tells if the given <code>text</code> follows exactly the canonical layout of this format, with a year greater than zero.
+	 *  Texts that do not fit (e.g. with single-digit days) may still be parsed by the Joda Time formatter. */
+	boolean fits(final CharSequence text) {
+		
+		final int length = text.length();
+		
+		if (length != layout.length())
+			return false;
+		
+		for (int i=0; i<length; i++) {
+			
+			final char c = text.charAt(i);
+			final char expected = layout.charAt(i);
+			
+			if (Character.isLetter(expected) ? ((c < '0') || (c > '9')) : (c != expected))
+				return false;
+		}
+		
+		return getYear(text) > 0;
+	}
+	
+	/** Tells if the fields of a <code>text</code> that {@link #fits(CharSequence)} this format are within their ranges
+	 *  (month 1-12, day of the month, hour 0-23, minute and second 0-59). */
+	boolean isValid(final CharSequence text) {
+		
+		final int month = getMonth(text), day = getDay(text);
+		
+		return (month >= 1) && (month <= 12) && (day >= 1) && (day <= daysInMonth(getYear(text), month))
+			&& (getHour(text) < 24) && (getMinute(text) < 60) && (getSecond(text) < 60);
+	}
+	
+	/** @return The year of a <code>text</code> that {@link #fits(CharSequence)} this format. */
+	int getYear(final CharSequence text) {
+		return digits(text, year, 4);
+	}
+	
+	/** @return The month of a <code>text</code> that {@link #fits(CharSequence)} this format. */
+	int getMonth(final CharSequence text) {
+		return digits(text, month, 2);
+	}
+	
+	/** @return The day of a <code>text</code> that {@link #fits(CharSequence)} this format. */
+	int getDay(final CharSequence text) {
+		return digits(text, day, 2);
+	}
+	
+	/** @return The hour of a <code>text</code> that {@link #fits(CharSequence)} this format, or 0 if this format has no time. */
+	int getHour(final CharSequence text) {
+		return (hour < 0) ? 0 : digits(text, hour, 2);
+	}
+	
+	/** @return The minute of a <code>text</code> that {@link #fits(CharSequence)} this format, or 0 if this format has no time. */
+	int getMinute(final CharSequence text) {
+		return (minute < 0) ? 0 : digits(text, minute, 2);
+	}
+	
+	/** @return The second of a <code>text</code> that {@link #fits(CharSequence)} this format, or 0 if this format has no time. */
+	int getSecond(final CharSequence text) {
+		return (second < 0) ? 0 : digits(text, second, 2);
+	}
+	
+	/** @return The milliseconds of a <code>text</code> that {@link #fits(CharSequence)} this format, or 0 if this format has no fraction of second. */
+	int getMillis(final CharSequence text) {
+		return (millis < 0) ? 0 : digits(text, millis, 1) * 100;
+	}
+	
+	/** @return The number of days of the given <code>month</code> (1-12) in the ISO calendar. */
+	static int daysInMonth(final int year, final int month) {
+		
+		if (month == 2)
+			return ((year % 4 == 0) && ((year % 100 != 0) || (year % 400 == 0))) ? 29 : 28;
+		
+		return ((month == 4) || (month == 6) || (month == 9) || (month == 11)) ? 30 : 31;
+	}
+	
+	/** Builds a strict java.time parser for a canonical 'layout': fields followed by another field have fixed width,
+	 *  the others accept from 1 to 2 digits (or up to 9, for the year), and the fraction of second has a single digit. */
+	private static java.time.format.DateTimeFormatter parser(final String layout) {
+		
+		final DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
+		
+		for (int i=0; i<layout.length(); ) {
+			
+			final char letter = layout.charAt(i);
+			int end = i;
+			
+			while ((end < layout.length()) && (layout.charAt(end) == letter))
+				end++;
+			
+			final boolean adjacent = (end < layout.length()) && Character.isLetter(layout.charAt(end));
+			final int width = end - i;
+			
+			switch (letter) {
+				case 'S': builder.appendFraction(ChronoField.NANO_OF_SECOND, 1, 1, false); break;
+				case 'y': field(builder, ChronoField.YEAR, width, adjacent ? width : 9, adjacent); break;
+				case 'M': field(builder, ChronoField.MONTH_OF_YEAR , width, 2, adjacent); break;
+				case 'd': field(builder, ChronoField.DAY_OF_MONTH  , width, 2, adjacent); break;
+				case 'H': field(builder, ChronoField.HOUR_OF_DAY   , width, 2, adjacent); break;
+				case 'm': field(builder, ChronoField.MINUTE_OF_HOUR, width, 2, adjacent); break;
+				case 's': field(builder, ChronoField.SECOND_OF_MINUTE, width, 2, adjacent); break;
+				default:  builder.appendLiteral(layout.substring(i, end)); break;
+			}
+			
+			i = end;
+		}
+		
+		return builder.toFormatter().withResolverStyle(ResolverStyle.STRICT);
+	}
+	
+	/** Appends a numeric 'field' to the 'builder', with fixed 'width' if it is 'adjacent' to the next field, or from 1 to 'maxWidth' digits otherwise. */
+	private static void field(final DateTimeFormatterBuilder builder, final ChronoField field, final int width, final int maxWidth, final boolean adjacent) {
+		
+		if (adjacent)
+			builder.appendValue(field, width);
+		else
+			builder.appendValue(field, 1, maxWidth, SignStyle.NOT_NEGATIVE);
+	}
+	
+	/** Reads <code>count</code> digits of <code>text</code> starting at <code>offset</code> as an integer. */
+	private static int digits(final CharSequence text, final int offset, final int count) {
+		
+		int value = 0;
+		
+		for (int i=offset; i<offset+count; i++)
+			value = value * 10 + (text.charAt(i) - '0');
+		
+		return value;
+	}
+
 }
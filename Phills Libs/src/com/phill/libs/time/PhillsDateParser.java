@@ -4,13 +4,18 @@ import java.util.Date;
 import java.util.concurrent.TimeUnit;
 
 import org.joda.time.DateTime;
+import org.joda.time.IllegalInstantException;
 import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
 
 /** A helper class to parse dates between Java and JodaTime date.
  *  @author Felipe André - felipeandre.eng@gmail.com
- *  @version 2.1, 22/JAN/2022 */
+ *  @version 2.2, 18/OCT/2026 */
 public class PhillsDateParser {
+	
+	// Character sequences looked for by 'detectFormat' (the characters may be apart, but in this order)
+	private static final char[] SQL_SEQUENCE = {'-', '-', ':', ':', '.'};
+	private static final char[] AWT_SEQUENCE = {'/', '/', ':', ':'};
 
 	/** Converts a Java Date to a Joda Time Date.
 	 *  @param date - Java date
@@ -23,12 +28,13 @@ public class PhillsDateParser {
 	 *  @param date - String date
 	 *  @param format - A date format
 	 *  @return A Joda Time date or 'null' if the given <code>date</code> could not be formatted.
-	 *  @see DateTimeFormatter */
+	 *  @see DateTimeFormatter
+	 *  @see PhillsFormatterCache */
 	public static DateTime createDate(final String date, final String format) {
 		
 		try {
 			
-			DateTimeFormatter formatter = DateTimeFormat.forPattern(format);
+			DateTimeFormatter formatter = PhillsFormatterCache.JODA.get(format);
 			return formatter.parseDateTime(date);
 			
 		}
@@ -39,44 +45,101 @@ public class PhillsDateParser {
 	}
 	
 	/** Tries to create a Joda Time date parsing the given <code>date</code> string using some known formats.
+	 *  The format is detected in a single scan of the string (see {@link #detectFormat(CharSequence)}) and
+	 *  dates in the 'dd/MM/yyyy' layout that are not valid are retried as 'MM/dd/yyyy'.
 	 *  @param date - String date
 	 *  @return A Joda Time date or 'null' if the given <code>date</code> does not match none of the known formats.
 	 *  @see PhillsDateFormatter */
 	public static DateTime createDate(final String date) {
 		
+		final PhillsDateFormatter format = detectFormat(date);
+		
+		if (format == null)
+			return null;
+		
+		final DateTime formattedDate = createDate(date, format);
+		
+		if ((formattedDate == null) && (format == PhillsDateFormatter.AWT_DATE))
+			return createDate(date, PhillsDateFormatter.AWT_DATE_US);
+		
+		return formattedDate;
+	}
+	
+	/** Tries to create a Joda Time date parsing the given <code>date</code> string using the given <code>format</code>.
+	 *  Dates following the canonical layout of the format are read directly from the characters, so invalid dates
+	 *  cost no exception at all. This method never throws and never writes to the standard error.
+	 *  @param date - String date
+	 *  @param format - one of the known date formats
+	 *  @return A Joda Time date or 'null' if the given <code>date</code> could not be parsed with the given <code>format</code>.
+	 *  @since 2.2, 18/OCT/2026 */
+	public static DateTime createDate(final String date, final PhillsDateFormatter format) {
+		
 		if (date == null)
 			return null;
 		
-		// SQL DateTime + milliseconds
-		if (date.matches(".*-.*-.*:.*:.*\\..*"))
-			return formatDate(PhillsDateFormatter.SQL_DATE_TIME_MS, date);
+		if (!format.fits(date))
+			return formatDate(format, date);
 		
-		else if (date.matches(".*-.*-.*:.*:.*"))
-			return formatDate(PhillsDateFormatter.SQL_DATE_TIME, date);
+		if (!format.isValid(date))
+			return null;
 		
-		else if (date.matches(".*-.*-.*"))
-			return formatDate(PhillsDateFormatter.SQL_DATE, date);
+		try {
+			return new DateTime(format.getYear(date), format.getMonth(date), format.getDay(date), format.getHour(date),
+								format.getMinute(date), format.getSecond(date), format.getMillis(date));
+		}
+		catch (IllegalInstantException exception) {
+			return null;	// local time skipped by a daylight saving transition
+		}
+	}
+	
+	/** Detects which of the known formats the given <code>date</code> string is written in, in a single scan of its characters:<br>
+	 *  1. Two '-', two ':' and a '.' (in this order): {@link PhillsDateFormatter#SQL_DATE_TIME_MS};<br>
+	 *  2. Two '-' and two ':': {@link PhillsDateFormatter#SQL_DATE_TIME};<br>
+	 *  3. Two '-': {@link PhillsDateFormatter#SQL_DATE};<br>
+	 *  4. Ending with '//': {@link PhillsDateFormatter#XLS_DATE};<br>
+	 *  5. Two '/' and two ':': {@link PhillsDateFormatter#AWT_DATE_TIME};<br>
+	 *  6. Two '/': {@link PhillsDateFormatter#AWT_DATE};<br>
+	 *  7. Eight characters: {@link PhillsDateFormatter#RAW_DATE}.<br>
+	 *  These are the same rules (and precedence) of the former regular expressions of {@link #createDate(String)}.
+	 *  @param date - String date
+	 *  @return The detected format, or 'null' if the given <code>date</code> does not look like any of the known formats.
+	 *  @since 2.2, 18/OCT/2026 */
+	public static PhillsDateFormatter detectFormat(final CharSequence date) {
+		
+		if (date == null)
+			return null;
 		
-		else if (date.matches(".*//"))
-			return formatDate(PhillsDateFormatter.XLS_DATE, date);
+		final int length = date.length();
 		
-		else if (date.matches(".*/.*/.*:.*:.*"))
-			return formatDate(PhillsDateFormatter.AWT_DATE_TIME, date);
+		// Progress through the "--::." and "//::" sequences
+		int sql = 0, awt = 0;
 		
-		else if (date.matches(".*/.*/.*")) {
-			DateTime formattedDate = formatDate(PhillsDateFormatter.AWT_DATE, date);
+		for (int i=0; i<length; i++) {
+			
+			final char c = date.charAt(i);
 			
-			if (formattedDate == null)
-				formattedDate = formatDate(PhillsDateFormatter.AWT_DATE_US, date);
+			// Regular expressions' '.' does not match line terminators
+			if ((c == '\n') || (c == '\r') || (c == '\u0085') || (c == '\u2028') || (c == '\u2029'))
+				return (length == 8) ? PhillsDateFormatter.RAW_DATE : null;
 			
-			return formattedDate;
+			if ((sql < SQL_SEQUENCE.length) && (c == SQL_SEQUENCE[sql]))
+				sql++;
+			
+			if ((awt < AWT_SEQUENCE.length) && (c == AWT_SEQUENCE[awt]))
+				awt++;
 		}
 		
-		else if (date.length() == 8)
-			return formatDate(PhillsDateFormatter.RAW_DATE, date);
+		if (sql == 5) return PhillsDateFormatter.SQL_DATE_TIME_MS;
+		if (sql >= 4) return PhillsDateFormatter.SQL_DATE_TIME;
+		if (sql >= 2) return PhillsDateFormatter.SQL_DATE;
+		
+		if ((length >= 2) && (date.charAt(length - 1) == '/') && (date.charAt(length - 2) == '/'))
+			return PhillsDateFormatter.XLS_DATE;
 		
-		return null;
+		if (awt == 4) return PhillsDateFormatter.AWT_DATE_TIME;
+		if (awt >= 2) return PhillsDateFormatter.AWT_DATE;
 		
+		return (length == 8) ? PhillsDateFormatter.RAW_DATE : null;
 	}
 	
 	/** Converts a <code>date</code> from a <code>sourceFormat</code> to a <code>targetFormat</code>.
@@ -104,9 +167,10 @@ public class PhillsDateParser {
 	 *  @param date - Joda Time date
 	 *  @param format - a date format
 	 *  @return A formatted string date.
-	 *  @see DateTimeFormat */
+	 *  @see DateTimeFormat
+	 *  @see PhillsFormatterCache */
 	public static String retrieveDate(final DateTime date, final String format) {
-		return date.toString(format);
+		return (format == null) ? date.toString() : date.toString(PhillsFormatterCache.JODA.get(format));
 	}
 	
 	/** Returns a string formatted like '12 h 57 min 34 s'.
@@ -145,11 +209,11 @@ public class PhillsDateParser {
 	/** Creates a Joda Time <code>date</code> parsing the given string date using <code>format</code>.
 	 *  @param format - Joda Time date format
 	 *  @param date - String date
-	 *  @return A Joda Time date with data coming from <code>date</code>.
+	 *  @return A Joda Time date with data coming from <code>date</code>, or 'null' if it could not be parsed.
 	 *  @see DateTimeFormat */
 	private static DateTime formatDate(final PhillsDateFormatter format, final String date) {
 		try { return format.getFormat().parseDateTime(date); }
-		catch (IllegalArgumentException exception) { exception.printStackTrace(); return null; }
+		catch (IllegalArgumentException exception) { return null; }
 	}
 	
 }
@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 
 import org.joda.time.*;
+import org.joda.time.format.DateTimeFormatter;
 
 public class PhillsDateUtils {
 
@@ -31,13 +32,13 @@ public class PhillsDateUtils {
 	/** Retrieves the current semester as an integer.
 	 *  @return Current semester. */
 	public static int getCurrentSemester() {
-		return new DateTime().getMonthOfYear() / 7 + 1;
+		return PhillsClock.getDefault().getMonth() / 7 + 1;
 	}
 	
 	/** Retrieves the current year as an integer.
 	 *  @return Current year. */
 	public static int getCurrentYear() {
-		return new DateTime().getYear();
+		return PhillsClock.getDefault().getYear();
 	}
 	
 	/** Returns the days passed between the <code>start</code> and <code>end</code> dates.
@@ -59,16 +60,32 @@ public class PhillsDateUtils {
 	
 	/** Retrieves the current date respecting the given <code>format</code>.
 	 *  @param format - a date format
-	 *  @return The current formatted system date. */
+	 *  @return The current formatted system date.
+	 *  @see PhillsClock#getDefault() */
 	public static String now(final String format) {
-		return PhillsDateParser.retrieveDate(new DateTime(), format);
+		
+		final PhillsClock clock = PhillsClock.getDefault();
+		final long millis = clock.millis();
+		
+		if (format == null)
+			return new DateTime(millis, clock.getZone()).toString();
+		
+		// Formatters print at the default time zone, unless told otherwise
+		final DateTimeFormatter formatter = PhillsFormatterCache.JODA.get(format);
+		
+		return (clock.getZone() == DateTimeZone.getDefault()) ? formatter.print(millis) : formatter.withZone(clock.getZone()).print(millis);
 	}
 	
 	/** Tells if the given <code>date</code> is in the past. Always remember, today is not in the past!
 	 *  @param date - a date
-	 *  @return 'true' if the date is in the past, or 'false' otherwise. */
+	 *  @return 'true' if the date is in the past, or 'false' otherwise.
+	 *  @see PhillsClock#getDefault() */
 	public static boolean past(final DateTime date) {
-		return compare(date, new DateTime()) < 0;
+		
+		if (date == null) return false;
+		
+		// Comparing the first instants of the days, just like the date-only comparator does
+		return date.getChronology().dayOfMonth().roundFloor(date.getMillis()) < PhillsClock.getDefault().getTodayMillis();
 	}
 	
 	/** Builds a {@link DateTime} object using data from a {@link LocalDate} and a {@link LocalTime}.
@@ -86,13 +103,17 @@ public class PhillsDateUtils {
 	/** Retrieves the years passed since the given <code>date</code> until today.
 	 *  @param date - String date
 	 *  @param format - A date format
-	 *  @return Years since the given <code>date</code> until today. */
+	 *  @return Years since the given <code>date</code> until today.
+	 *  @throws IllegalArgumentException if the given <code>date</code> could not be parsed. */
 	public static int yearsSince(final String date, final String format) {
 		
-		DateTime current = new DateTime();
 		DateTime givendt = PhillsDateParser.createDate(date, format);
 		
-		return Years.yearsBetween(givendt, current).getYears();
+		if (givendt == null)
+			throw new IllegalArgumentException("Invalid date: " + date);
+		
+		// Same as Years.yearsBetween(givendt, now), without building 'now'
+		return givendt.getChronology().years().getDifference(PhillsClock.getDefault().millis(), givendt.getMillis());
 	}
 	
 }
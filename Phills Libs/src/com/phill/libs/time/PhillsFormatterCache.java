@@ -0,0 +1,136 @@
+package com.phill.libs.time;
+
+import java.time.format.ResolverStyle;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
+/** A thread-safe, bounded cache of compiled date formatters, keyed by their pattern strings.
+ *  All the methods of this package that receive a pattern string get their formatters from here,
+ *  so converting dates in a loop compiles each pattern only once.<br>
+ *  When the cache is full, an arbitrary entry is evicted to make room for the new one.
+ *  The hit and miss counters may be used to check if the capacity suits the application.
+ *  @param <F> formatter type
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026
+ *  @see PhillsDateParser#createDate(String, String) */
+public final class PhillsFormatterCache<F> {
+	
+	/** Default capacity of the caches. */
+	public static final int DEFAULT_CAPACITY = 256;
+	
+	/** Cache of Joda Time formatters, used by {@link PhillsDateParser} and {@link PhillsDateUtils}. */
+	public static final PhillsFormatterCache<DateTimeFormatter> JODA = new PhillsFormatterCache<DateTimeFormatter>(DEFAULT_CAPACITY, DateTimeFormat::forPattern);
+	
+	/** Cache of immutable java.time formatters, used by {@link PhillsLocalDateParser} and {@link PhillsLocalDateUtils}.
+	 *  Just like Joda Time, these formatters reject invalid dates (e.g. 31/02) instead of adjusting them, and the
+	 *  year-of-era ('y') is read as a proleptic year ('u'), so patterns like 'dd/MM/yyyy' need no era. */
+	public static final PhillsFormatterCache<java.time.format.DateTimeFormatter> JAVA = new PhillsFormatterCache<java.time.format.DateTimeFormatter>(DEFAULT_CAPACITY,
+			pattern -> java.time.format.DateTimeFormatter.ofPattern(strict(pattern)).withResolverStyle(ResolverStyle.STRICT));
+	
+	private final ConcurrentHashMap<String,F> cache;
+	private final Function<String,F> compiler;
+	private final int capacity;
+	
+	private final LongAdder hits = new LongAdder(), misses = new LongAdder();
+	
+	/** Creates a new cache.
+	 *  @param capacity - maximum number of cached formatters
+	 *  @param compiler - function that compiles a pattern string into a formatter
+	 *  @throws IllegalArgumentException if the <code>capacity</code> is not positive. */
+	public PhillsFormatterCache(final int capacity, final Function<String,F> compiler) {
+		
+		if (capacity < 1)
+			throw new IllegalArgumentException("Invalid capacity: " + capacity);
+		
+		this.cache    = new ConcurrentHashMap<String,F>(capacity * 2);
+		this.compiler = compiler;
+		this.capacity = capacity;
+	}
+	
+	/** Retrieves the formatter of the given <code>pattern</code>, compiling it only if it is not cached yet.
+	 *  @param pattern - date pattern
+	 *  @return A formatter for the given <code>pattern</code>.
+	 *  @throws IllegalArgumentException if the <code>pattern</code> is invalid.
+	 *  @throws NullPointerException if the <code>pattern</code> is null. */
+	public F get(final String pattern) {
+		
+		F formatter = cache.get(pattern);
+		
+		if (formatter != null) {
+			hits.increment();
+			return formatter;
+		}
+		
+		misses.increment();
+		formatter = compiler.apply(pattern);
+		
+		// Making room for the new formatter
+		if (cache.size() >= capacity) {
+			
+			final Iterator<String> keys = cache.keySet().iterator();
+			
+			if (keys.hasNext()) {
+				keys.next();
+				keys.remove();
+			}
+		}
+		
+		final F previous = cache.putIfAbsent(pattern, formatter);
+		
+		return (previous == null) ? formatter : previous;
+	}
+	
+	/** @return The number of lookups that found the formatter already compiled. */
+	public long getHits() {
+		return hits.sum();
+	}
+	
+	/** @return The number of lookups that had to compile the formatter. */
+	public long getMisses() {
+		return misses.sum();
+	}
+	
+	/** @return The number of formatters currently cached. */
+	public int size() {
+		return cache.size();
+	}
+	
+	/** @return The maximum number of cached formatters. */
+	public int getCapacity() {
+		return capacity;
+	}
+	
+	/** Removes all the cached formatters and resets the hit and miss counters. */
+	public void clear() {
+		cache.clear();
+		hits.reset();
+		misses.reset();
+	}
+	
+	/**************************** Internal Methods Section ***************************************/
+	
+	/** Replaces the year-of-era letters ('y') of a java.time <code>pattern</code> by proleptic year letters ('u'),
+	 *  except inside quoted literals, as the strict resolution cannot resolve a year-of-era without an era. */
+	private static String strict(final String pattern) {
+		
+		final char[] letters = pattern.toCharArray();
+		boolean quoted = false;
+		
+		for (int i=0; i<letters.length; i++) {
+			
+			if (letters[i] == '\'')
+				quoted = !quoted;
+			
+			else if (!quoted && (letters[i] == 'y'))
+				letters[i] = 'u';
+		}
+		
+		return new String(letters);
+	}
+
+}
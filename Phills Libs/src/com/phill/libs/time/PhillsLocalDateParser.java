@@ -0,0 +1,247 @@
+package com.phill.libs.time;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+
+/** The java.time counterpart of {@link PhillsDateParser}: parses and formats {@link LocalDate} and {@link LocalDateTime}
+ *  objects (or plain epoch days) using the {@link PhillsDateFormatter} formats or pattern strings, without Joda Time.<br>
+ *  Dates following the canonical layout of a known format are read and written straight from/to the characters,
+ *  and the others go through immutable cached java.time formatters ({@link PhillsFormatterCache#JAVA}).
+ *  No method of this class throws on invalid dates, they return 'null' (or {@link #INVALID_EPOCH_DAY}) instead.
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.0, 18/OCT/2026
+ *  @see PhillsLocalDateUtils */
+public class PhillsLocalDateParser {
+	
+	/** Epoch day returned for dates that could not be parsed. */
+	public static final long INVALID_EPOCH_DAY = Long.MIN_VALUE;
+	
+	/** Tries to create a local date parsing the given <code>date</code> string using some known formats,
+	 *  detected just like {@link PhillsDateParser#createDate(String)} does. Time fields, if any, are ignored.
+	 *  @param date - String date
+	 *  @return A local date or 'null' if the given <code>date</code> does not match none of the known formats. */
+	public static LocalDate createDate(final CharSequence date) {
+		
+		final LocalDateTime dateTime = createDateTime(date);
+		
+		return (dateTime == null) ? null : dateTime.toLocalDate();
+	}
+	
+	/** Tries to create a local date time parsing the given <code>date</code> string using some known formats,
+	 *  detected just like {@link PhillsDateParser#createDate(String)} does.
+	 *  @param date - String date
+	 *  @return A local date time (at midnight, for formats without time) or 'null' if the given <code>date</code> does not match none of the known formats. */
+	public static LocalDateTime createDateTime(final CharSequence date) {
+		
+		final PhillsDateFormatter format = PhillsDateParser.detectFormat(date);
+		
+		if (format == null)
+			return null;
+		
+		final LocalDateTime dateTime = createDateTime(date, format);
+		
+		if ((dateTime == null) && (format == PhillsDateFormatter.AWT_DATE))
+			return createDateTime(date, PhillsDateFormatter.AWT_DATE_US);
+		
+		return dateTime;
+	}
+	
+	/** Tries to create a local date parsing the given <code>date</code> string using the given <code>format</code>.
+	 *  @param date - String date
+	 *  @param format - one of the known date formats
+	 *  @return A local date or 'null' if the given <code>date</code> could not be parsed with the given <code>format</code>. */
+	public static LocalDate createDate(final CharSequence date, final PhillsDateFormatter format) {
+		
+		final LocalDateTime dateTime = createDateTime(date, format);
+		
+		return (dateTime == null) ? null : dateTime.toLocalDate();
+	}
+	
+	/** Tries to create a local date time parsing the given <code>date</code> string using the given <code>format</code>.
+	 *  @param date - String date
+	 *  @param format - one of the known date formats
+	 *  @return A local date time (at midnight, for formats without time) or 'null' if the given <code>date</code> could not be parsed with the given <code>format</code>. */
+	public static LocalDateTime createDateTime(final CharSequence date, final PhillsDateFormatter format) {
+		
+		if (date == null)
+			return null;
+		
+		if (format.fits(date)) {
+			
+			if (!format.isValid(date))
+				return null;
+			
+			return LocalDateTime.of(format.getYear(date), format.getMonth(date), format.getDay(date), format.getHour(date),
+									format.getMinute(date), format.getSecond(date), format.getMillis(date) * 1_000_000);
+		}
+		
+		final TemporalAccessor parsed = parse(date, format.getJavaParser());
+		
+		if (parsed == null)
+			return null;
+		
+		try {
+			return LocalDate.from(parsed).atTime(parsed.isSupported(ChronoField.HOUR_OF_DAY) ? LocalTime.from(parsed) : LocalTime.MIDNIGHT);
+		}
+		catch (DateTimeException exception) {
+			return null;
+		}
+	}
+	
+	/** Tries to create a local date parsing the given <code>date</code> string using the given <code>pattern</code>.
+	 *  @param date - String date
+	 *  @param pattern - a java.time date pattern (e.g. 'dd/MM/yyyy')
+	 *  @return A local date or 'null' if the given <code>date</code> could not be parsed.
+	 *  @see PhillsFormatterCache#JAVA */
+	public static LocalDate createDate(final CharSequence date, final String pattern) {
+		
+		try {
+			return LocalDate.from(PhillsFormatterCache.JAVA.get(pattern).parse(date));
+		}
+		catch (RuntimeException exception) {
+			return null;
+		}
+	}
+	
+	/** Tries to create a local date time parsing the given <code>date</code> string using the given <code>pattern</code>.
+	 *  @param date - String date
+	 *  @param pattern - a java.time date time pattern (e.g. 'dd/MM/yyyy HH:mm:ss')
+	 *  @return A local date time or 'null' if the given <code>date</code> could not be parsed.
+	 *  @see PhillsFormatterCache#JAVA */
+	public static LocalDateTime createDateTime(final CharSequence date, final String pattern) {
+		
+		try {
+			return LocalDateTime.from(PhillsFormatterCache.JAVA.get(pattern).parse(date));
+		}
+		catch (RuntimeException exception) {
+			return null;
+		}
+	}
+	
+	/** Parses the given <code>date</code> string straight into an epoch day (days since 1970-01-01), using the given
+	 *  <code>format</code>. Dates following the canonical layout of the format allocate no objects at all.
+	 *  @param date - String date
+	 *  @param format - one of the known date formats
+	 *  @return The epoch day of the given <code>date</code>, or {@link #INVALID_EPOCH_DAY} if it could not be parsed. */
+	public static long toEpochDay(final CharSequence date, final PhillsDateFormatter format) {
+		
+		if (date == null)
+			return INVALID_EPOCH_DAY;
+		
+		if (format.fits(date))
+			return format.isValid(date) ? epochDay(format.getYear(date), format.getMonth(date), format.getDay(date)) : INVALID_EPOCH_DAY;
+		
+		final LocalDate parsed = createDate(date, format);
+		
+		return (parsed == null) ? INVALID_EPOCH_DAY : parsed.toEpochDay();
+	}
+	
+	/** Converts a <code>date</code> from a <code>sourceFormat</code> to a <code>targetFormat</code> (java.time patterns).
+	 *  @param date - a String date
+	 *  @param sourceFormat - a source date time pattern
+	 *  @param targetFormat - a target date time pattern
+	 *  @return A string date after conversion, or 'null' if the given <code>date</code> could not be parsed. */
+	public static String convert(final CharSequence date, final String sourceFormat, final String targetFormat) {
+		
+		try {
+			return PhillsFormatterCache.JAVA.get(targetFormat).format(PhillsFormatterCache.JAVA.get(sourceFormat).parse(date));
+		}
+		catch (RuntimeException exception) {
+			return null;
+		}
+	}
+	
+	/** Returns the given <code>date</code> formatted using the given <code>format</code>.
+	 *  Formats with time fields are filled with midnight.
+	 *  @param date - local date
+	 *  @param format - one of the known date formats
+	 *  @return A formatted string date, or 'null' if <code>date</code> is null. */
+	public static String retrieveDate(final LocalDate date, final PhillsDateFormatter format) {
+		return (date == null) ? null : retrieveDate(date.atStartOfDay(), format);
+	}
+	
+	/** Returns the given <code>date</code> formatted using the given <code>format</code>.
+	 *  Dates with years from 1 to 9999 are written straight into the canonical layout of the format.
+	 *  @param date - local date time
+	 *  @param format - one of the known date formats
+	 *  @return A formatted string date, or 'null' if <code>date</code> is null. */
+	public static String retrieveDate(final LocalDateTime date, final PhillsDateFormatter format) {
+		
+		if (date == null)
+			return null;
+		
+		if ((date.getYear() < 1) || (date.getYear() > 9999))
+			return format.getJavaFormat().format(date);
+		
+		final String layout = format.getLayout();
+		final char[] text = new char[layout.length()];
+		
+		for (int i=0; i<text.length; i++) {
+			
+			final char letter = layout.charAt(i);
+			
+			// Each field is written from its last digit, so 'i' jumps to the end of the field
+			switch (letter) {
+				case 'y': i = write(text, i, 4, date.getYear()); break;
+				case 'M': i = write(text, i, 2, date.getMonthValue()); break;
+				case 'd': i = write(text, i, 2, date.getDayOfMonth()); break;
+				case 'H': i = write(text, i, 2, date.getHour()); break;
+				case 'm': i = write(text, i, 2, date.getMinute()); break;
+				case 's': i = write(text, i, 2, date.getSecond()); break;
+				case 'S': i = write(text, i, 1, date.getNano() / 100_000_000); break;
+				default:  text[i] = letter; break;
+			}
+		}
+		
+		return new String(text);
+	}
+	
+	/** Returns the given <code>date</code> formatted using the given <code>pattern</code>.
+	 *  @param date - local date or local date time
+	 *  @param pattern - a java.time date pattern
+	 *  @return A formatted string date, or 'null' if <code>date</code> is null.
+	 *  @see PhillsFormatterCache#JAVA */
+	public static String retrieveDate(final TemporalAccessor date, final String pattern) {
+		return (date == null) ? null : PhillsFormatterCache.JAVA.get(pattern).format(date);
+	}
+	
+	/**************************** Internal Methods Section ***************************************/
+	
+	/** Computes the epoch day of a valid ISO date without allocating objects (same result of {@link LocalDate#toEpochDay()}). */
+	static long epochDay(final int year, final int month, final int day) {
+		
+		// Days from the civil calendar, counting the years from March, so the leap day is the last one
+		final int y = (month <= 2) ? year - 1 : year;
+		final long era = Math.floorDiv(y, 400);
+		final int yearOfEra = (int) (y - era * 400);
+		final int dayOfYear = (153 * (month + ((month > 2) ? -3 : 9)) + 2) / 5 + day - 1;
+		final int dayOfEra  = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		
+		return era * 146_097 + dayOfEra - 719_468;
+	}
+	
+	/** Parses 'date' with 'formatter', returning 'null' instead of throwing. */
+	private static TemporalAccessor parse(final CharSequence date, final java.time.format.DateTimeFormatter formatter) {
+		
+		try {
+			return formatter.parse(date);
+		}
+		catch (DateTimeException exception) {
+			return null;
+		}
+	}
+	
+	/** Writes the last 'digits' digits of 'value' in text[offset...], returning the position of the last digit. */
+	private static int write(final char[] text, final int offset, final int digits, int value) {
+		
+		for (int i=offset+digits-1; i>=offset; i--, value /= 10)
+			text[i] = (char) ('0' + value % 10);
+		
+		return offset + digits - 1;
+	}
+
+}
@@ -0,0 +1,104 @@
+package com.phill.libs.time;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+import org.joda.time.DateTime;
+
+/** The java.time counterpart of {@link PhillsDateUtils}: compares dates and computes durations
+ *  between {@link LocalDate} and {@link LocalDateTime} objects, without Joda Time.
+ *  @author Felipe André - felipeandre.eng@gmail.com
+ *  @version 1.1, 18/OCT/2026
+ *  @see PhillsLocalDateParser
+ *  @see PhillsClock */
+public class PhillsLocalDateUtils {
+	
+	/** Compares two dates.
+	 *  @return 0 if the dates are the same;<br>
+	 * 			1 if date1 > date2;<br>
+	 * 		   -1 if date1 < date2. */
+	public static int compare(final LocalDate date1, final LocalDate date2) {
+		return Integer.signum(date1.compareTo(date2));
+	}
+	
+	/** Compares only the dates (time is ignored) of two date times.
+	 *  @return 0 if the dates are the same;<br>
+	 * 			1 if date1 > date2;<br>
+	 * 		   -1 if date1 < date2. */
+	public static int compare(final LocalDateTime date1, final LocalDateTime date2) {
+		return compare(date1.toLocalDate(), date2.toLocalDate());
+	}
+	
+	/** Compares two dates using the given <code>format</code> (a java.time pattern). Unparseable dates come first.
+	 *  @return 0 if the dates are the same;<br>
+	 * 			1 if date1 > date2;<br>
+	 * 		   -1 if date1 < date2. */
+	public static int compare(final String date1, final String date2, final String format) {
+		
+		final long day1 = epochDay(date1, format);
+		final long day2 = epochDay(date2, format);
+		
+		return Long.compare(day1, day2);
+	}
+	
+	/** Returns the days passed between the <code>start</code> and <code>end</code> dates.
+	 *  @param start - start date
+	 *  @param end - end date
+	 *  @return the days passed between the <code>start</code> and <code>end</code> dates. */
+	public static long getDurationDays(final LocalDate start, final LocalDate end) {
+		return ChronoUnit.DAYS.between(start, end);
+	}
+	
+	/** Returns the whole days (periods of 24 hours) passed between the <code>start</code> and <code>end</code> date times.
+	 *  @param start - start date time
+	 *  @param end - end date time
+	 *  @return the whole days passed between the <code>start</code> and <code>end</code> date times. */
+	public static long getDurationDays(final LocalDateTime start, final LocalDateTime end) {
+		return Duration.between(start, end).toDays();
+	}
+	
+	/** Gets the milliseconds of the <code>date</code> instant, at the system default time zone, from the Java epoch of 1970-01-01T00:00:00Z.
+	 *  @param date - local date time
+	 *  @return Milliseconds since the Java epoch of 1970-01-01T00:00:00Z, or '-1' if the given <code>date</code> is null. */
+	public static long getMillis(final LocalDateTime date) {
+		return (date == null) ? -1L : date.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+	
+	/** Tells if the given <code>date</code> is in the past. Always remember, today is not in the past!
+	 *  @param date - a date
+	 *  @return 'true' if the date is in the past, or 'false' otherwise. */
+	public static boolean past(final LocalDate date) {
+		return date.isBefore(PhillsClock.getDefault().getToday());
+	}
+	
+	/** Retrieves the years passed since the given <code>date</code> until today.
+	 *  @param date - a date
+	 *  @return Years since the given <code>date</code> until today. */
+	public static int yearsSince(final LocalDate date) {
+		return (int) ChronoUnit.YEARS.between(date, PhillsClock.getDefault().getToday());
+	}
+	
+	/** Builds a {@link LocalDateTime} object using data from a Joda Time {@link DateTime}, at its own time zone.
+	 *  @return A {@link LocalDateTime} object with the same fields of <code>date</code> or 'null' if <code>date</code> is null. */
+	public static LocalDateTime toLocalDateTime(final DateTime date) {
+		
+		if (date == null) return null;
+		
+		return LocalDateTime.of(date.getYear(), date.getMonthOfYear(), date.getDayOfMonth(), date.getHourOfDay(),
+								date.getMinuteOfHour(), date.getSecondOfMinute(), date.getMillisOfSecond() * 1_000_000);
+	}
+	
+	/**************************** Internal Methods Section ***************************************/
+	
+	/** Parses 'date' into an epoch day, using {@link PhillsLocalDateParser#INVALID_EPOCH_DAY} for unparseable dates. */
+	private static long epochDay(final String date, final String format) {
+		
+		final LocalDate parsed = PhillsLocalDateParser.createDate(date, format);
+		
+		return (parsed == null) ? PhillsLocalDateParser.INVALID_EPOCH_DAY : parsed.toEpochDay();
+	}
+
+}